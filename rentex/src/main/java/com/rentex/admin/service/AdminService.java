@@ -5,6 +5,7 @@ import com.rentex.admin.dto.UserResponseDTO;
 import com.rentex.payment.repository.PaymentRepository;
 import com.rentex.penalty.repository.PenaltyRepository;
 import com.rentex.rental.dto.RentalResponseDto;
+import com.rentex.rental.repository.RentalArchiveRepository;
 import com.rentex.rental.repository.RentalRepository;
 import com.rentex.user.domain.User;
 import com.rentex.user.repository.UserRepository;
@@ -13,6 +14,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -20,6 +22,7 @@ public class AdminService {
 
     private final UserRepository userRepository;
     private final RentalRepository rentalRepository;
+    private final RentalArchiveRepository rentalArchiveRepository;
     private final PaymentRepository paymentRepository;
     private final PenaltyRepository penaltyRepository;
 
@@ -52,7 +55,7 @@ public class AdminService {
     public AdminDashboardDTO getDashboardStats() {
         long users = userRepository.countByRole("USER");     // 탈퇴자 포함
         long partners = userRepository.countByRole("PARTNER");
-        long transactions = rentalRepository.count();
+        long transactions = rentalRepository.count() + rentalArchiveRepository.count(); // 보관분 포함
         Long revenue = paymentRepository.sumAdminRevenue();
 
         return new AdminDashboardDTO(
@@ -63,11 +66,12 @@ public class AdminService {
         );
     }
 
-    /** 특정 유저의 대여내역 (DTO 변환 from() 활용) */
+    /** 특정 유저의 대여내역 (DTO 변환 from() 활용, 보관 이동된 대여 포함) */
     @Transactional(readOnly = true)
     public List<RentalResponseDto> getUserRents(Long userId) {
-        return rentalRepository.findByUserId(userId).stream()
-                .map(RentalResponseDto::from)
+        return Stream.concat(
+                        rentalRepository.findByUserId(userId).stream().map(RentalResponseDto::from),
+                        rentalArchiveRepository.findByUserId(userId).stream().map(RentalResponseDto::from))
                 .toList();
     }
 
@@ -6,14 +6,22 @@ import com.rentex.category.dto.SubCategoryDTO;
 import com.rentex.category.dto.SubCategoryRevenueDTO;
 import com.rentex.category.repository.CategoryRepository;
 import com.rentex.category.repository.SubCategoryRepository;
+import com.rentex.global.web.ETags;
+import com.rentex.rental.repository.RentalArchiveRepository;
 import com.rentex.rental.repository.RentalRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 import java.util.stream.Collectors;
 
 @RestController
@@ -24,24 +32,45 @@ public class CategoryController {
     private final CategoryRepository categoryRepository;
     private final SubCategoryRepository subCategoryRepository;
     private final RentalRepository rentalRepository;
+    private final RentalArchiveRepository rentalArchiveRepository;
 
+    // 변경이 거의 없는 목록이라 버전만 먼저 조회해 If-None-Match 가 같으면 304
     @GetMapping
-    public List<Category> getAllCategories() {
-        return categoryRepository.findAll();
+    public ResponseEntity<List<Category>> getAllCategories(WebRequest request) {
+        CategoryRepository.ListVersion v = categoryRepository.findListVersion();
+        String etag = ETags.of("categories", v.getCnt(), v.getMaxId(), v.getVersionSum());
+        return ETags.conditional(request, etag, categoryRepository::findAll);
     }
 
     @GetMapping("/{categoryId}/subcategories")
-    public List<SubCategoryDTO> getSubcategories(@PathVariable Long categoryId) {
-        List<SubCategory> subs = subCategoryRepository.findByCategoryId(categoryId);
-        return subs.stream()
-                .map(SubCategoryDTO::new)
-                .collect(Collectors.toList());
+    public ResponseEntity<List<SubCategoryDTO>> getSubcategories(@PathVariable Long categoryId, WebRequest request) {
+        SubCategoryRepository.ListVersion v = subCategoryRepository.findListVersion(categoryId);
+        String etag = ETags.of("subcategories-" + categoryId,
+                v.getCnt(), v.getMaxId(), v.getVersionSum(), v.getCategoryVersion());
+        return ETags.conditional(request, etag, () -> {
+            List<SubCategory> subs = subCategoryRepository.findByCategoryId(categoryId);
+            return subs.stream()
+                    .map(SubCategoryDTO::new)
+                    .collect(Collectors.toList());
+        });
     }
 
 
     @GetMapping("/subcategories/revenue")
     public List<SubCategoryRevenueDTO> getSubCategoryRevenue() {
-        return rentalRepository.findTopSubCategoryRevenue();
+        // 보관 이동된 대여 매출을 소분류별로 합산
+        Map<String, SubCategoryRevenueDTO> merged = new LinkedHashMap<>();
+        Stream.concat(
+                rentalRepository.findTopSubCategoryRevenue().stream(),
+                rentalArchiveRepository.findSubCategoryRevenue().stream()
+        ).forEach(dto -> merged.merge(dto.getSubCategoryName(), dto, (a, b) -> new SubCategoryRevenueDTO(
+                a.getSubCategoryName(),
+                a.getTotalRevenue() + b.getTotalRevenue(),
+                a.getRentalCount() + b.getRentalCount())));
+
+        return merged.values().stream()
+                .sorted(Comparator.comparing(SubCategoryRevenueDTO::getTotalRevenue).reversed())
+                .toList();
     }
 
 }
\ No newline at end of file
@@ -1,7 +1,9 @@
 package com.rentex.category.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 
 @Getter
@@ -14,5 +16,10 @@ public class Category {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     private String name;
+
+    @Version
+    @ColumnDefault("0")
+    @JsonIgnore
+    private Long version; // 수정 버전 (ETag)
 }
 
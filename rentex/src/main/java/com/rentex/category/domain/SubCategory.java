@@ -1,7 +1,9 @@
 package com.rentex.category.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Getter
@@ -18,4 +20,9 @@ public class SubCategory {
     private Category category;
 
     private String name;
+
+    @Version
+    @ColumnDefault("0")
+    @JsonIgnore
+    private Long version; // 수정 버전 (ETag)
 }
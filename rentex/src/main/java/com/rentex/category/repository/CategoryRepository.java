@@ -2,6 +2,20 @@ package com.rentex.category.repository;
 
 import com.rentex.category.domain.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
+
+    /** 목록 ETag 용 버전 (추가/삭제 → 건수·최대 id, 수정 → 버전 합) */
+    interface ListVersion {
+        Long getCnt();
+        Long getMaxId();
+        Long getVersionSum();
+    }
+
+    @Query("""
+    select count(c) as cnt, max(c.id) as maxId, sum(c.version) as versionSum
+    from Category c
+    """)
+    ListVersion findListVersion();
 }
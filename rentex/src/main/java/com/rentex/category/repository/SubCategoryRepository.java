@@ -2,9 +2,26 @@ package com.rentex.category.repository;
 
 import com.rentex.category.domain.SubCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface SubCategoryRepository extends JpaRepository<SubCategory, Long> {
     List<SubCategory> findByCategoryId(Long categoryId);
-}
\ No newline at end of file
+
+    /** 카테고리별 소분류 목록 ETag 용 버전 (응답에 카테고리명이 포함되므로 카테고리 버전도 함께) */
+    interface ListVersion {
+        Long getCnt();
+        Long getMaxId();
+        Long getVersionSum();
+        Long getCategoryVersion();
+    }
+
+    @Query("""
+    select count(s) as cnt, max(s.id) as maxId, sum(s.version) as versionSum, max(c.version) as categoryVersion
+    from SubCategory s join s.category c
+    where c.id = :categoryId
+    """)
+    ListVersion findListVersion(@Param("categoryId") Long categoryId);
+}
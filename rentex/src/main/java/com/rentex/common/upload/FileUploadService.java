@@ -2,7 +2,12 @@ package com.rentex.common.upload;
 
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 public interface FileUploadService {
 
     String upload(MultipartFile file);
+
+    /** 여러 파일을 함께 업로드 (입력 순서대로 URL 반환, 하나라도 실패하면 전체 실패) */
+    List<String> uploadAll(List<MultipartFile> files);
 }
\ No newline at end of file
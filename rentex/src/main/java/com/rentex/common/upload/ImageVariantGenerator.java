@@ -0,0 +1,106 @@
+package com.rentex.common.upload;
+
+import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 업로드된 원본 이미지로 small / medium / large 파생 이미지 생성
+ * - 원본은 한 번만 디코딩하고, 가로세로 비율을 유지한 채 각 크기 상자 안에 맞춘다 (확대는 하지 않음).
+ * - 투명도가 있으면 png, 아니면 jpg 로 저장한다.
+ * - 파일은 원본 옆에 원본명 + 크기 접미사로 둔다 (예: /uploads/ab/abcd….png → /uploads/ab/abcd…_m.jpg)
+ * - 원본이 내용 주소 경로라 같은 이름이면 같은 내용 → 이미 있으면 다시 만들지 않는다.
+ */
+@Component
+public class ImageVariantGenerator {
+
+    private static final String URL_PREFIX = "/uploads/";
+    private static final double JPEG_QUALITY = 0.85;
+
+    public enum Size {
+        SMALL("s", 160), MEDIUM("m", 480), LARGE("l", 1280);
+
+        private final String suffix;
+        private final int maxEdge;
+
+        Size(String suffix, int maxEdge) {
+            this.suffix = suffix;
+            this.maxEdge = maxEdge;
+        }
+    }
+
+    /** 생성된 파생 이미지 URL */
+    public record Variants(String smallUrl, String mediumUrl, String largeUrl) {}
+
+    @Value("${file.upload-dir}")
+    private String uploadDir;
+
+    /** 로컬 업로드 경로(/uploads/**)인지 (외부 URL 은 생성 대상 아님) */
+    public boolean isLocal(String url) {
+        return url != null && url.startsWith(URL_PREFIX) && !url.contains("..");
+    }
+
+    public Variants generate(String sourceUrl) throws IOException {
+        if (!isLocal(sourceUrl)) {
+            throw new IllegalArgumentException("로컬 업로드 이미지가 아닙니다: " + sourceUrl);
+        }
+        Path basePath = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Path source = basePath.resolve(sourceUrl.substring(URL_PREFIX.length())).normalize();
+        if (!source.startsWith(basePath) || !Files.isRegularFile(source)) {
+            throw new IOException("원본 이미지가 없습니다: " + sourceUrl);
+        }
+
+        BufferedImage image = ImageIO.read(source.toFile());
+        if (image == null) {
+            throw new IOException("이미지로 읽을 수 없는 파일입니다: " + sourceUrl);
+        }
+
+        String format = image.getColorModel().hasAlpha() ? "png" : "jpg";
+        String stem = StringUtils.stripFilenameExtension(source.getFileName().toString());
+
+        Path dir = source.getParent();
+        return new Variants(
+                write(image, basePath, dir, stem, Size.SMALL, format),
+                write(image, basePath, dir, stem, Size.MEDIUM, format),
+                write(image, basePath, dir, stem, Size.LARGE, format)
+        );
+    }
+
+    private String write(BufferedImage image, Path basePath, Path dir, String stem, Size size, String format)
+            throws IOException {
+        Path target = dir.resolve(stem + "_" + size.suffix + "." + format);
+        String url = URL_PREFIX + basePath.relativize(target).toString().replace('\\', '/');
+        if (Files.isRegularFile(target)) {
+            return url;
+        }
+
+        int edge = Math.max(image.getWidth(), image.getHeight());
+        Thumbnails.Builder<BufferedImage> builder = Thumbnails.of(image);
+        if (edge > size.maxEdge) {
+            builder.size(size.maxEdge, size.maxEdge);
+        } else {
+            builder.scale(1.0);
+        }
+        if ("jpg".equals(format)) {
+            builder.outputQuality(JPEG_QUALITY);
+        }
+        // 같은 원본을 쓰는 장비가 동시에 만들 수 있으므로 임시 파일에 쓴 뒤 원자적 이동
+        Path temp = Files.createTempFile(dir, stem + "_" + size.suffix + "-", ".part." + format); // 확장자가 형식과 같아야 Thumbnailator 가 덧붙이지 않음
+        try {
+            builder.outputFormat(format).toFile(temp.toFile());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return url;
+    }
+}
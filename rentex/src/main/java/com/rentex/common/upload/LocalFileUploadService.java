@@ -1,49 +1,172 @@
 package com.rentex.common.upload;
 
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.UUID;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
 
+/**
+ * 내용 주소(content-addressable) 방식 로컬 업로드
+ * - 업로드 스트림을 임시 파일에 쓰면서 SHA-256 을 함께 계산하고 (한 번만 읽음),
+ *   끝나면 해시 경로(/uploads/ab/abcdef….jpg)로 원자적 이동한다.
+ * - 같은 내용이 이미 있으면 임시 파일만 지우고 기존 파일을 그대로 쓴다 (중복 저장 없음).
+ *   재사용 시 수정 시각을 갱신해 UploadOrphanSweeper 의 유예 시간이 다시 시작되게 한다.
+ * - 같은 URL 은 항상 같은 내용이므로 URL 이 바뀌지 않는 한 영구 캐시해도 된다.
+ */
 @Service
 public class LocalFileUploadService implements FileUploadService {
 
-    @Value("${file.upload-dir}")
-    private String uploadDir; // ✅ application.yml에서 설정한 외부 디렉토리 (ex: C:/rentex-uploads/)
+    private static final String TMP_DIR = ".tmp";
+    private static final Pattern SAFE_EXTENSION = Pattern.compile("[a-z0-9]{1,10}");
+
+    private final String uploadDir; // ✅ application.yml에서 설정한 외부 디렉토리 (ex: C:/rentex-uploads/)
+    private final ThreadPoolExecutor executor; // 일괄 업로드용 디스크 I/O 풀 (큐가 차면 호출 스레드가 직접 저장)
+
+    public LocalFileUploadService(@Value("${file.upload-dir}") String uploadDir,
+                                  @Value("${file.upload-threads:4}") int threads,
+                                  @Value("${file.upload-queue-capacity:64}") int queueCapacity) {
+        this.uploadDir = uploadDir;
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "file-upload-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
 
     @Override
     public String upload(MultipartFile file) {
+        return store(file);
+    }
+
+    /**
+     * 여러 파일을 업로드 풀에서 동시에 저장한다.
+     * - 모두 끝난 뒤에 반환하고, 하나라도 실패하면 예외를 던진다.
+     * - ⚠️ 이미 저장된 파일은 바로 지우지 않는다. 내용 주소라 이번 호출이 만든 파일도 그 사이 다른 요청이
+     *   같은 내용으로 재사용했을 수 있다. 어디에서도 참조되지 않은 파일은 UploadOrphanSweeper 가 유예 시간 후 지운다.
+     */
+    @Override
+    public List<String> uploadAll(List<MultipartFile> files) {
+        if (files.isEmpty()) return List.of();
+
+        List<CompletableFuture<String>> futures = files.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> store(file), executor))
+                .toList();
+        try {
+            // allOf 는 전부 끝난 뒤에 완료되므로, 예외를 던질 때 아직 쓰는 중인 파일은 없다
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new RuntimeException("파일 저장 중 오류 발생", e.getCause());
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private String store(MultipartFile file) {
         if (file.isEmpty()) {
             throw new IllegalArgumentException("업로드할 파일이 없습니다.");
         }
 
-        // ✅ 원본 파일명 정리
-        String originalFilename = StringUtils.cleanPath(file.getOriginalFilename());
-        String savedFileName = UUID.randomUUID() + "_" + originalFilename;
-
+        Path tempPath = null;
         try {
-            // ✅ 업로드 디렉토리 (절대경로 기준으로 생성)
+            // ✅ 업로드 디렉토리 (절대경로 기준으로 생성), 임시 파일은 같은 파일시스템에 두어야 원자적 이동 가능
             Path basePath = Paths.get(uploadDir).toAbsolutePath().normalize();
-            Files.createDirectories(basePath); // 디렉토리 없으면 생성
+            Path tempDir = Files.createDirectories(basePath.resolve(TMP_DIR));
+            tempPath = Files.createTempFile(tempDir, "upload-", ".part");
+
+            // ✅ 임시 파일에 쓰면서 해시 계산
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = file.getInputStream();
+                 OutputStream out = new DigestOutputStream(Files.newOutputStream(tempPath), digest)) {
+                in.transferTo(out);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+
+            // ✅ 해시 경로: 앞 2글자로 디렉토리 분산
+            String relative = hash.substring(0, 2) + "/" + hash + extension(file.getOriginalFilename());
+            Path targetPath = basePath.resolve(relative);
 
-            // ✅ 최종 저장 경로
-            Path targetPath = basePath.resolve(savedFileName);
-            file.transferTo(targetPath.toFile());
+            if (Files.exists(targetPath)) {
+                Files.delete(tempPath); // 같은 내용이 이미 있음 → 재사용
+                touch(targetPath);
+            } else {
+                Files.createDirectories(targetPath.getParent());
+                try {
+                    Files.move(tempPath, targetPath, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    Files.delete(tempPath); // 동시에 같은 내용이 먼저 저장됨
+                    touch(targetPath);
+                }
+            }
 
-            // ✅ 접근 가능한 URL 반환
-            return "/uploads/" + savedFileName;
+            // ✅ 텍스트 계열(svg 등)은 gzip 형제 파일도 한 번 만들어 둔다 (서빙 시 Accept-Encoding 에 맞춰 전송)
+            PrecompressedFiles.writeGzip(targetPath);
 
-            // 👉 브라우저에서는 http://localhost:8080/uploads/UUID_파일명 으로 접근 가능
-            // 🚀 배포 시에는 http://your-domain.com/uploads/UUID_파일명
+            // ✅ 접근 가능한 URL 반환 (내용이 같으면 항상 같은 URL)
+            return "/uploads/" + relative;
+
+            // 👉 브라우저에서는 http://localhost:8080/uploads/ab/abcdef….jpg 로 접근 가능
         } catch (IOException e) {
+            deleteQuietly(tempPath);
             throw new RuntimeException("파일 저장 중 오류 발생", e);
+        } catch (NoSuchAlgorithmException e) {
+            deleteQuietly(tempPath);
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    // 재사용한 파일의 수정 시각 갱신 (고아 정리 유예 시간 재시작)
+    private void touch(Path path) throws IOException {
+        Files.setLastModifiedTime(path, FileTime.from(Instant.now()));
+    }
+
+    // 원본 확장자 (소문자, 영숫자만). 없거나 이상하면 확장자 없이 저장
+    private String extension(String originalFilename) {
+        String ext = StringUtils.getFilenameExtension(StringUtils.cleanPath(String.valueOf(originalFilename)));
+        if (ext == null) return "";
+        ext = ext.toLowerCase(Locale.ROOT);
+        return SAFE_EXTENSION.matcher(ext).matches() ? "." + ext : "";
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) return;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 임시 파일 정리 실패는 업로드 실패 원인이 아니므로 무시
         }
     }
 }
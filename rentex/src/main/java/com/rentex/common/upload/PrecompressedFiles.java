@@ -0,0 +1,53 @@
+package com.rentex.common.upload;
+
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 업로드 파일의 미리 압축된 형제 파일 (예: ab/<sha256>.svg → ab/<sha256>.svg.gz / .svg.br)
+ * - 사진(jpg/png/webp 등)은 이미 압축돼 있어 대상이 아니고, 텍스트 계열 형식만 만든다.
+ * - .gz 는 업로드 시 직접 만들고, .br 은 배포 스크립트 등 외부에서 만들어 두면 서빙 시 우선 사용한다.
+ */
+final class PrecompressedFiles {
+
+    private static final Set<String> COMPRESSIBLE = Set.of("svg", "txt", "csv", "json", "xml", "bmp");
+
+    private PrecompressedFiles() {
+    }
+
+    static boolean isCompressible(Path file) {
+        String ext = StringUtils.getFilenameExtension(file.getFileName().toString());
+        return ext != null && COMPRESSIBLE.contains(ext.toLowerCase(Locale.ROOT));
+    }
+
+    static Path sibling(Path file, String coding) {
+        String suffix = "br".equals(coding) ? ".br" : ".gz";
+        return file.resolveSibling(file.getFileName() + suffix);
+    }
+
+    /** .gz 형제 파일 생성 (이미 있거나 줄어들지 않으면 만들지 않음) */
+    static void writeGzip(Path file) throws IOException {
+        Path target = sibling(file, "gzip");
+        if (!isCompressible(file) || Files.exists(target)) return;
+
+        Path temp = Files.createTempFile(file.getParent(), file.getFileName() + "-", ".gz.part");
+        try {
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+                Files.copy(file, out);
+            }
+            if (Files.size(temp) < Files.size(file)) {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.rentex.common.upload;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 참조 없는 업로드 파일 정리 (기본 매일 04:30)
+ * - 내용 주소 파일은 여러 요청이 같은 경로를 재사용하므로 업로드 실패 시 바로 지우지 않고 이 스윕에 맡긴다.
+ * - 장비(썸네일/파생/상세 이미지/상세 설명 본문)·사용자(프로필) 어디에서도 참조하지 않고,
+ *   마지막 수정(= 저장 또는 재사용) 후 유예 시간이 지난 파일만 지운다. (.gz/.br 형제는 원본을 따른다)
+ * - .tmp 아래 남은 임시 파일(중단된 업로드)도 유예 시간이 지나면 지운다.
+ */
+@Slf4j
+@Component
+public class UploadOrphanSweeper {
+
+    private static final String URL_PREFIX = "/uploads/";
+    private static final Pattern EMBEDDED_URL = Pattern.compile("/uploads/[A-Za-z0-9._\\-/]+");
+
+    private static final String REFERENCED_URLS_SQL = """
+            SELECT thumbnail_url FROM item WHERE thumbnail_url LIKE '/uploads/%'
+            UNION SELECT thumbnail_small_url FROM item WHERE thumbnail_small_url LIKE '/uploads/%'
+            UNION SELECT thumbnail_medium_url FROM item WHERE thumbnail_medium_url LIKE '/uploads/%'
+            UNION SELECT thumbnail_large_url FROM item WHERE thumbnail_large_url LIKE '/uploads/%'
+            UNION SELECT image_url FROM item_detail_images WHERE image_url LIKE '/uploads/%'
+            UNION SELECT profile_image_url FROM users WHERE profile_image_url LIKE '/uploads/%'
+            """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final String uploadDir;
+    private final Duration grace;
+
+    public UploadOrphanSweeper(NamedParameterJdbcTemplate jdbc,
+                               @Value("${file.upload-dir}") String uploadDir,
+                               @Value("${file.orphan-sweep.grace-hours:24}") long graceHours) {
+        this.jdbc = jdbc;
+        this.uploadDir = uploadDir;
+        this.grace = Duration.ofHours(graceHours);
+    }
+
+    @Scheduled(cron = "${file.orphan-sweep.cron:0 30 4 * * *}")
+    public void sweep() {
+        Path basePath = Paths.get(uploadDir).toAbsolutePath().normalize();
+        if (!Files.isDirectory(basePath)) return;
+
+        // 참조 목록은 파일 목록보다 먼저 읽는다 (이후 저장된 파일은 유예 시간 안이라 지워지지 않음)
+        Instant cutoff = Instant.now().minus(grace);
+        Set<String> referenced = referencedUrls();
+
+        int deleted = 0;
+        try (Stream<Path> files = Files.walk(basePath)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (isOrphan(basePath, file, cutoff, referenced) && deleteQuietly(file)) deleted++;
+            }
+        } catch (IOException e) {
+            log.warn("업로드 고아 파일 정리 중단: dir={}", basePath, e);
+        }
+        if (deleted > 0) {
+            log.info("업로드 고아 파일 정리: deleted={}, referenced={}", deleted, referenced.size());
+        }
+    }
+
+    // === 내부 ===
+
+    private Set<String> referencedUrls() {
+        Set<String> urls = new HashSet<>(jdbc.queryForList(REFERENCED_URLS_SQL, Map.of(), String.class));
+        List<String> descriptions = jdbc.queryForList(
+                "SELECT detail_description FROM item WHERE detail_description LIKE '%/uploads/%'",
+                Map.of(), String.class);
+        for (String description : descriptions) {
+            Matcher m = EMBEDDED_URL.matcher(description);
+            while (m.find()) urls.add(m.group());
+        }
+        return urls;
+    }
+
+    private boolean isOrphan(Path basePath, Path file, Instant cutoff, Set<String> referenced) {
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+            if (!attrs.isRegularFile() || attrs.lastModifiedTime().toInstant().isAfter(cutoff)) return false;
+        } catch (IOException e) {
+            return false; // 그 사이 지워졌거나 읽을 수 없으면 건드리지 않는다
+        }
+
+        String relative = basePath.relativize(file).toString().replace('\\', '/');
+        if (relative.startsWith(".tmp/")) return true;
+
+        String url = URL_PREFIX + relative;
+        if (url.endsWith(".gz") || url.endsWith(".br")) {
+            url = url.substring(0, url.length() - 3); // 미리 압축된 형제 파일은 원본 기준
+        }
+        return !referenced.contains(url);
+    }
+
+    private boolean deleteQuietly(Path file) {
+        try {
+            return Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("업로드 고아 파일 삭제 실패: {}", file, e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.rentex.common.upload;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 파일 전용 서빙 (/uploads/**)
+ * - Tomcat sendfile 이 가능하면 커널에서 바로 전송, 아니면 FileChannel.transferTo 로 복사 최소화
+ * - Range 요청(단일 구간)은 206 으로 일부만 전송
+ * - 내용 주소 이름(/uploads/ab/<sha256>…)은 내용이 바뀌지 않으므로 1년 immutable 캐시,
+ *   예전 UUID 이름은 하루 캐시 + ETag/Last-Modified 재검증
+ * - 압축 효과가 있는 형식은 미리 만들어 둔 .br / .gz 형제 파일을 Accept-Encoding 에 맞춰 전송
+ */
+@RestController
+public class UploadServingController {
+
+    private static final String URL_PREFIX = "/uploads/";
+    private static final Pattern CONTENT_ADDRESSED =
+            Pattern.compile("[0-9a-f]{2}/([0-9a-f]{64}(?:_[sml])?)(?:\\.[a-z0-9]{1,10})?");
+    private static final Pattern SINGLE_RANGE = Pattern.compile("bytes=(\\d*)-(\\d*)");
+
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+    private static final String REVALIDATE_DAILY = "public, max-age=86400";
+
+    // Tomcat sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    @Value("${file.upload-dir}")
+    private String uploadDir;
+
+    @RequestMapping(value = "/uploads/**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String relative = urlPathHelper.getPathWithinApplication(request).substring(URL_PREFIX.length());
+        Path basePath = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Path file = basePath.resolve(relative).normalize();
+        if (relative.isEmpty() || !file.startsWith(basePath) || file.startsWith(basePath.resolve(".tmp"))
+                || !Files.isRegularFile(file)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        Matcher addressed = CONTENT_ADDRESSED.matcher(relative);
+        boolean immutable = addressed.matches();
+        MediaType mediaType = MediaTypeFactory.getMediaType(file.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM);
+
+        // 미리 압축된 형제 파일 (압축 형식이면 Range 는 받지 않는다)
+        Encoded encoded = PrecompressedFiles.isCompressible(file)
+                ? pickEncoding(file, request.getHeader(HttpHeaders.ACCEPT_ENCODING))
+                : null;
+        Path body = encoded != null ? encoded.path() : file;
+
+        BasicFileAttributes attrs = Files.readAttributes(body, BasicFileAttributes.class);
+        long length = attrs.size();
+        long lastModified = attrs.lastModifiedTime().toMillis();
+        String etag = etag(addressed, immutable, length, lastModified, encoded);
+
+        response.setContentType(mediaType.toString());
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, immutable ? IMMUTABLE : REVALIDATE_DAILY);
+        if (PrecompressedFiles.isCompressible(file)) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (encoded != null) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, encoded.coding());
+        } else {
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        }
+
+        if (notModified(request, etag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        String range = encoded == null ? request.getHeader(HttpHeaders.RANGE) : null;
+        if (range != null && ifRangeMatches(request, etag)) {
+            long[] span = parseRange(range, length);
+            if (span == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (span.length == 2) {
+                start = span[0];
+                end = span[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count <= 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 응답 본문은 Tomcat 이 sendfile 로 직접 전송
+            request.setAttribute(SENDFILE_FILENAME, body.toFile().getCanonicalPath());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(body, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) break;
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    // === 내부 ===
+
+    private record Encoded(Path path, String coding) {}
+
+    // br → gzip 순으로 클라이언트가 받는 형식 중 형제 파일이 있는 것
+    private Encoded pickEncoding(Path file, String acceptEncoding) {
+        if (acceptEncoding == null) return null;
+        for (String coding : new String[]{"br", "gzip"}) {
+            if (accepts(acceptEncoding, coding)) {
+                Path sibling = PrecompressedFiles.sibling(file, coding);
+                if (Files.isRegularFile(sibling)) return new Encoded(sibling, coding);
+            }
+        }
+        return null;
+    }
+
+    private static boolean accepts(String acceptEncoding, String coding) {
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            if (!tokens[0].trim().equalsIgnoreCase(coding)) continue;
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim();
+                if (param.startsWith("q=") && isZero(param.substring(2).trim())) return false;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isZero(String q) {
+        try {
+            return Double.parseDouble(q) == 0.0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static String etag(Matcher addressed, boolean immutable, long length, long lastModified, Encoded encoded) {
+        String suffix = encoded != null ? "-" + encoded.coding() : "";
+        if (immutable) {
+            return "\"" + addressed.group(1) + suffix + "\""; // 이름이 곧 내용 해시
+        }
+        return "W/\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + suffix + "\"";
+    }
+
+    private static boolean notModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            if (ifNoneMatch.trim().equals("*")) return true;
+            String opaque = stripWeak(etag);
+            for (String candidate : ifNoneMatch.split(",")) {
+                if (stripWeak(candidate.trim()).equals(opaque)) return true;
+            }
+            return false;
+        }
+        long ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince != -1 && lastModified / 1000 <= ifModifiedSince / 1000;
+    }
+
+    // If-Range 가 없거나 현재 ETag(강한 비교)와 같을 때만 구간 전송
+    private static boolean ifRangeMatches(HttpServletRequest request, String etag) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        return ifRange == null || (!etag.startsWith("W/") && ifRange.trim().equals(etag));
+    }
+
+    /**
+     * 단일 구간만 처리. 반환: 구간 [start, end] / 빈 배열(구간 무시하고 전체 전송) / null(만족 불가 → 416)
+     */
+    private static long[] parseRange(String header, long length) {
+        Matcher m = SINGLE_RANGE.matcher(header.trim());
+        if (!m.matches()) return new long[0]; // 다중 구간/형식 오류 → 전체 전송
+        String first = m.group(1);
+        String last = m.group(2);
+        try {
+            if (first.isEmpty()) {
+                if (last.isEmpty()) return new long[0];
+                long suffix = Long.parseLong(last); // bytes=-N : 마지막 N 바이트
+                if (suffix == 0 || length == 0) return null;
+                return new long[]{Math.max(0, length - suffix), length - 1};
+            }
+            long start = Long.parseLong(first);
+            if (!last.isEmpty() && Long.parseLong(last) < start) return new long[0]; // 형식 오류 → 전체 전송
+            if (start >= length) return null;
+            long end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
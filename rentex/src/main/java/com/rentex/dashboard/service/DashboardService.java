@@ -7,6 +7,7 @@ import com.rentex.item.domain.Item.ItemStatus;
 import com.rentex.item.repository.ItemRepository;
 import com.rentex.payment.repository.PaymentRepository;
 import com.rentex.rental.domain.RentalStatus;
+import com.rentex.rental.repository.RentalArchiveRepository;
 import com.rentex.rental.repository.RentalRepository;
 import com.rentex.rental.repository.RentalHistoryRepository;
 import com.rentex.user.domain.Role;
@@ -34,6 +35,7 @@ public class DashboardService {
 
     private final UserRepository userRepository;
     private final RentalRepository rentalRepository;
+    private final RentalArchiveRepository rentalArchiveRepository;
     private final ItemRepository itemRepository;
     private final RentalHistoryRepository rentalHistoryRepository;
     private final PaymentRepository paymentRepository; // 매출은 추후 연결
@@ -42,10 +44,10 @@ public class DashboardService {
 
     /** 요약 카드 */
     public DashboardSummaryDTO getSummary(Authentication auth) {
-        long total = rentalRepository.count();
+        long total = rentalRepository.count() + rentalArchiveRepository.count();   // 보관분 포함
         long active = rentalRepository.countByStatus(RentalStatus.RECEIVED); // 진행 중
         long available = itemRepository.countByStatus(ItemStatus.AVAILABLE);
-        long overdue = rentalRepository.countByIsOverdueTrue();
+        long overdue = rentalRepository.countByIsOverdueTrue() + rentalArchiveRepository.countByIsOverdueTrue();
         long partners = userRepository.countByRole("PARTNER");
         return new DashboardSummaryDTO(total, active, available, overdue, partners);
     }
@@ -152,7 +154,7 @@ public class DashboardService {
         long users = userRepository.countByRole("USER");
         long partners = userRepository.countByRole("PARTNER");
 
-        long transactions = rentalRepository.count();
+        long transactions = rentalRepository.count() + rentalArchiveRepository.count();
         long revenue = 0L; // TODO: 결제 모듈 붙으면 합계로 교체
 
         return new AdminDashboardDTO(users, partners, transactions, revenue);
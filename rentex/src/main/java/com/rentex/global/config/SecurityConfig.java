@@ -97,8 +97,9 @@ public class SecurityConfig {
                         .requestMatchers("/api/auth/password-reset/**").permitAll()
                         .requestMatchers("/oauth2/**", "/login/**", "/error").permitAll()
 
-                        // 정적 파일: GET만 허용
+                        // 정적 파일: GET/HEAD만 허용
                         .requestMatchers(HttpMethod.GET, "/uploads/**").permitAll()
+                        .requestMatchers(HttpMethod.HEAD, "/uploads/**").permitAll()
 
                         // 공개 GET API
                         .requestMatchers(HttpMethod.GET, "/api/items/**").permitAll()
@@ -108,6 +109,7 @@ public class SecurityConfig {
 
                         // 공개 예외(특정 경로)
                         .requestMatchers(HttpMethod.GET, "/api/rentals/items/*/availability").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/rentals/items/available").permitAll()
 
                         // 더 구체적인 규칙을 상단에 배치(permitAll과 충돌 방지)
                         .requestMatchers("/api/items/my").authenticated() // 공개 GET 규칙보다 위!
@@ -19,6 +19,9 @@ public enum ErrorCode {
     ITEM_OUT_OF_STOCK(HttpStatus.BAD_REQUEST, "장비 재고가 부족합니다."),
     INVALID_RENTAL_STATUS(HttpStatus.BAD_REQUEST, "잘못된 대여 상태입니다."),
     PENALTY_BLOCKED(HttpStatus.FORBIDDEN, "벌점 3점 이상으로 대여가 제한되었습니다. 패널티 결제를 먼저 진행하세요."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 페이지 커서입니다."),
+    INVALID_SORT(HttpStatus.BAD_REQUEST, "지원하지 않는 정렬 조건입니다."),
+    INVALID_IMPORT_FILE(HttpStatus.BAD_REQUEST, "일괄 등록 파일은 .csv 또는 .jsonl 형식이어야 합니다."),
 
     // 💥 기타
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류입니다.");
@@ -4,6 +4,7 @@ import com.rentex.rental.exception.*;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -72,6 +73,14 @@ public class GlobalExceptionHandler {
         return build(HttpStatus.FORBIDDEN, "PENALTY_BLOCKED", e.getMessage(), req);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiErrorResponse> handleOptimisticLock(
+            OptimisticLockingFailureException e, HttpServletRequest req) {
+        // 동시 수정 충돌이 재시도 후에도 해소되지 않음 → 409
+        return build(HttpStatus.CONFLICT, "CONCURRENT_MODIFICATION",
+                "다른 요청과 동시에 처리되어 실패했습니다. 잠시 후 다시 시도해 주세요.", req);
+    }
+
     // 그 밖의 예상치 못한 예외는 500으로 수습
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiErrorResponse> handleAny(
@@ -0,0 +1,70 @@
+package com.rentex.global.retry;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 낙관적 락 충돌/재시도 통계 (인메모리, 기동 이후 누적)
+ * - 작업(메서드)별 호출/충돌/재시도/최종 실패 수
+ * - 엔티티별 충돌 수 (예: "Item#12", "Rental#345") → 어떤 장비에 경합이 몰리는지 확인용
+ */
+@Component
+public class OptimisticLockMetrics {
+
+    private final Map<String, OperationCounters> operations = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> conflictsByEntity = new ConcurrentHashMap<>();
+
+    void recordCall(String operation) {
+        counters(operation).calls.increment();
+    }
+
+    void recordConflict(String operation, String entityKey) {
+        counters(operation).conflicts.increment();
+        if (entityKey != null) {
+            conflictsByEntity.computeIfAbsent(entityKey, k -> new LongAdder()).increment();
+        }
+    }
+
+    void recordRetry(String operation) {
+        counters(operation).retries.increment();
+    }
+
+    void recordFailure(String operation) {
+        counters(operation).failures.increment();
+    }
+
+    public Snapshot snapshot() {
+        Map<String, OperationStats> ops = new TreeMap<>();
+        operations.forEach((name, c) -> ops.put(name, new OperationStats(
+                c.calls.sum(), c.conflicts.sum(), c.retries.sum(), c.failures.sum())));
+
+        Map<String, Long> entities = new TreeMap<>();
+        conflictsByEntity.forEach((key, count) -> entities.put(key, count.sum()));
+
+        return new Snapshot(ops, entities);
+    }
+
+    private OperationCounters counters(String operation) {
+        return operations.computeIfAbsent(operation, k -> new OperationCounters());
+    }
+
+    private static final class OperationCounters {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder conflicts = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+    }
+
+    public record OperationStats(long calls, long conflicts, long retries, long failures) {
+        /** 호출 대비 충돌 비율 */
+        public double conflictRate() {
+            return calls == 0 ? 0.0 : (double) conflicts / calls;
+        }
+    }
+
+    public record Snapshot(Map<String, OperationStats> operations, Map<String, Long> conflictsByEntity) {}
+}
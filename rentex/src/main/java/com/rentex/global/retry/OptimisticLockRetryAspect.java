@@ -0,0 +1,75 @@
+package com.rentex.global.retry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * @RetryOnConflict 처리
+ * 트랜잭션 인터셉터(LOWEST_PRECEDENCE)보다 바깥에서 실행되어야 매 시도가 새 트랜잭션이 된다.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+public class OptimisticLockRetryAspect {
+
+    private final OptimisticLockMetrics metrics;
+
+    @Around("@annotation(retry)")
+    public Object retryOnConflict(ProceedingJoinPoint pjp, RetryOnConflict retry) throws Throwable {
+        String operation = pjp.getSignature().getDeclaringType().getSimpleName() + "." + pjp.getSignature().getName();
+        metrics.recordCall(operation);
+
+        // 이미 바깥 트랜잭션 안이라면 재시도해도 같은 트랜잭션이 롤백 전용이므로 그대로 실행
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return pjp.proceed();
+        }
+
+        int maxAttempts = Math.max(1, retry.maxAttempts());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return pjp.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                metrics.recordConflict(operation, entityKey(e));
+
+                if (attempt >= maxAttempts) {
+                    metrics.recordFailure(operation);
+                    log.warn("낙관적 락 충돌 재시도 초과: {} ({}회)", operation, attempt);
+                    throw e;
+                }
+
+                metrics.recordRetry(operation);
+                log.debug("낙관적 락 충돌, 재시도: {} ({}/{})", operation, attempt, maxAttempts);
+                sleepBeforeRetry(retry.backoffMillis(), attempt);
+            }
+        }
+    }
+
+    private String entityKey(OptimisticLockingFailureException e) {
+        if (e instanceof ObjectOptimisticLockingFailureException ole
+                && ole.getPersistentClassName() != null && ole.getIdentifier() != null) {
+            String className = ole.getPersistentClassName();
+            String simpleName = className.substring(className.lastIndexOf('.') + 1);
+            return simpleName + "#" + ole.getIdentifier();
+        }
+        return null;
+    }
+
+    private void sleepBeforeRetry(long backoffMillis, int attempt) throws InterruptedException {
+        if (backoffMillis <= 0) return;
+        long jitter = ThreadLocalRandom.current().nextLong(backoffMillis + 1);
+        Thread.sleep(backoffMillis * attempt + jitter);
+    }
+}
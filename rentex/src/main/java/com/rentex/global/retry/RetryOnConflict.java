@@ -0,0 +1,21 @@
+package com.rentex.global.retry;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 락 충돌(@Version 불일치) 시 메서드를 새 트랜잭션으로 재시도한다.
+ * 트랜잭션 바깥에서 감싸도록 OptimisticLockRetryAspect 가 @Transactional 보다 먼저 적용된다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+
+    /** 최초 호출을 포함한 최대 시도 횟수 */
+    int maxAttempts() default 3;
+
+    /** 재시도 전 대기 시간 (시도 횟수만큼 선형 증가 + 지터) */
+    long backoffMillis() default 30;
+}
@@ -0,0 +1,60 @@
+package com.rentex.global.web;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+
+/**
+ * 버전 기반 ETag 조건부 GET
+ * - 호출 측은 버전 구성값(version 컬럼, updatedAt, 건수 등)만 가볍게 조회해 ETag 를 만든다.
+ * - If-None-Match 가 같으면 엔티티를 읽지 않고 304 로 끝낸다.
+ * - 응답은 no-cache 로 내려 클라이언트가 매번 ETag 로 재검증하게 한다.
+ */
+public final class ETags {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache();
+
+    private ETags() {
+    }
+
+    /** 버전 구성값으로 weak ETag 생성 (예: W/"item-3.7.0.0.1723400000000") */
+    public static String of(String prefix, Object... parts) {
+        StringJoiner joiner = new StringJoiner(".", "W/\"" + prefix + "-", "\"");
+        for (Object part : parts) {
+            joiner.add(stamp(part));
+        }
+        return joiner.toString();
+    }
+
+    /** ETag 가 같으면 304, 아니면 loader 결과를 ETag 와 함께 200 으로 (etag 가 null 이면 그냥 조회) */
+    public static <T> ResponseEntity<T> conditional(WebRequest request, String etag, Supplier<T> loader) {
+        return conditional(request, etag, loader, () -> { });
+    }
+
+    /** onNotModified: 304 로 끝날 때도 수행해야 하는 부수 처리 (예: 조회수 증가) */
+    public static <T> ResponseEntity<T> conditional(WebRequest request, String etag, Supplier<T> loader,
+                                                    Runnable onNotModified) {
+        if (etag == null) {
+            return ResponseEntity.ok(loader.get());
+        }
+        if (request.checkNotModified(etag)) {
+            onNotModified.run();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(loader.get());
+    }
+
+    private static String stamp(Object part) {
+        if (part == null) return "0";
+        if (part instanceof LocalDateTime time) {
+            return Long.toString(time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+        return part.toString();
+    }
+}
@@ -1,8 +1,10 @@
 package com.rentex.item.controller;
 
+import com.rentex.item.dto.ItemImportReportDTO;
 import com.rentex.item.dto.ItemRequestDTO;
 import com.rentex.item.dto.ItemResponseDTO;
 import com.rentex.item.repository.ItemRepository;
+import com.rentex.item.service.ItemImportService;
 import com.rentex.item.service.ItemService;
 import com.rentex.user.domain.User;
 import com.rentex.user.repository.UserRepository;
@@ -24,6 +26,8 @@ public class ItemController {
 
     private final ItemService itemService;
 
+    private final ItemImportService itemImportService;
+
     private final UserRepository userRepository;
 
     private final ItemRepository itemRepository;
@@ -100,6 +104,32 @@ public class ItemController {
         return ResponseEntity.ok().build();
     }
 
+    // 아이템 일괄 등록 (CSV / JSON Lines, 잘못된 행은 줄 번호와 사유로 보고)
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ItemImportReportDTO> importItems(
+            @RequestPart("file") MultipartFile file,
+            @AuthenticationPrincipal org.springframework.security.core.userdetails.UserDetails userDetails
+    ) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        Long userId = Long.valueOf(userDetails.getUsername());
+        User partner = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("로그인된 파트너를 찾을 수 없습니다."));
+
+        return ResponseEntity.ok(itemImportService.importItems(partner.getId(), file));
+    }
+
+    // 상세 이미지 1장 추가 (기존 이미지는 그대로, 맨 뒤에 붙음)
+    @PostMapping(value = "/{id}/detail-images", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<String> addDetailImage(
+            @PathVariable Long id,
+            @RequestPart("file") MultipartFile file
+    ) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(itemService.uploadDetailImage(id, file));
+    }
+
     // 아이템 삭제
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteItem(@PathVariable Long id) {
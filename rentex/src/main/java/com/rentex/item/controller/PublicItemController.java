@@ -1,10 +1,17 @@
 package com.rentex.item.controller;
 
+import com.rentex.global.web.ETags;
+import com.rentex.item.domain.Item;
+import com.rentex.item.dto.ItemCatalogDTO;
 import com.rentex.item.dto.ItemResponseDTO;
+import com.rentex.item.dto.ItemSuggestionDTO;
 import com.rentex.item.service.ItemService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -22,9 +29,44 @@ public class PublicItemController {
         return ResponseEntity.ok(itemService.getAllItems());
     }
 
-    // 개별 아이템 상세 조회 (공용)
+    // 카탈로그 목록 (공용, 페이지 + 필터)
+    //  - 예: /api/items/catalog?categoryId=1&minPrice=10000&status=AVAILABLE&page=0&size=20&sort=dailyPrice,asc
+    @GetMapping("/catalog")
+    public ResponseEntity<Page<ItemCatalogDTO>> getCatalog(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long subCategoryId,
+            @RequestParam(required = false) Integer minPrice,
+            @RequestParam(required = false) Integer maxPrice,
+            @RequestParam(required = false) Item.ItemStatus status,
+            Pageable pageable
+    ) {
+        return ResponseEntity.ok(itemService.getCatalog(categoryId, subCategoryId, minPrice, maxPrice, status, pageable));
+    }
+
+    // 장비 검색 (공용, 관련도순 페이지)
+    //  - 예: /api/items/search?q=캠핑의자&status=AVAILABLE&page=0&size=20
+    @GetMapping("/search")
+    public ResponseEntity<Page<ItemCatalogDTO>> searchItems(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Item.ItemStatus status,
+            Pageable pageable
+    ) {
+        return ResponseEntity.ok(itemService.searchItems(query, categoryId, status, pageable));
+    }
+
+    // 검색어 자동완성 (공용, 인기순 최대 10개)
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<ItemSuggestionDTO>> autocomplete(
+            @RequestParam("q") String prefix,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(itemService.autocomplete(prefix, limit));
+    }
+
+    // 개별 아이템 상세 조회 (공용, 버전 ETag 가 같으면 본문 없이 304)
     @GetMapping("/{id}")
-    public ResponseEntity<ItemResponseDTO> getItemById(@PathVariable Long id) {
-        return ResponseEntity.ok(itemService.getItemById(id));
+    public ResponseEntity<ItemResponseDTO> getItemById(@PathVariable Long id, WebRequest request) {
+        return ETags.conditional(request, itemService.getItemETag(id), () -> itemService.getItemById(id));
     }
 }
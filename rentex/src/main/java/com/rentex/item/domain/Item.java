@@ -7,9 +7,11 @@ import com.rentex.global.domain.BaseTimeEntity;
 import com.rentex.user.domain.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 @Entity
 @Getter
@@ -29,7 +31,7 @@ public class Item extends BaseTimeEntity {
     private String description; // 간단 설명
 
     @Column(nullable = false)
-    private int stockQuantity; // 재고 수량
+    private int stockQuantity; // 보유 수량 (같은 날 동시에 대여 가능한 최대 수량)
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -40,7 +42,17 @@ public class Item extends BaseTimeEntity {
     private User partner; // 소유 파트너 (role = PARTNER)
 
     @Column(length = 500)
-    private String thumbnailUrl; // 대표 썸네일
+    private String thumbnailUrl; // 대표 썸네일 (원본)
+
+    // 썸네일 파생 이미지 (업로드 후 비동기 생성, 생성 전에는 null → 원본 사용)
+    @Column(length = 500)
+    private String thumbnailSmallUrl;  // 목록/자동완성 등 작은 칸
+
+    @Column(length = 500)
+    private String thumbnailMediumUrl; // 카탈로그 카드
+
+    @Column(length = 500)
+    private String thumbnailLargeUrl;  // 상세 화면
 
     @Lob
     private String detailDescription; // 상세 설명
@@ -49,7 +61,8 @@ public class Item extends BaseTimeEntity {
     @ElementCollection
     @CollectionTable(name = "item_detail_images", joinColumns = @JoinColumn(name = "item_id"))
     @Column(name = "image_url", length = 1000)
-    private List<String> detailImages = new ArrayList<>(); // 상세 이미지들
+    @OrderColumn(name = "image_order")
+    private List<String> detailImages = new ArrayList<>(); // 상세 이미지들 (image_order 순서)
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id")
@@ -63,14 +76,41 @@ public class Item extends BaseTimeEntity {
     @Column(nullable = false)
     private int dailyPrice; // 하루 단가
 
-    public enum ItemStatus { AVAILABLE, UNAVAILABLE } // 상태 ENUM
-
-    public void decreaseStock(int quantity) { // 재고 차감
-        if (this.stockQuantity < quantity) throw new IllegalStateException("재고 부족");
-        this.stockQuantity -= quantity;
+    @Version
+    @ColumnDefault("0")
+    @Setter(AccessLevel.NONE)
+    private Long version; // 낙관적 락 버전
+
+    /** 썸네일 교체 (이전 원본의 파생 이미지는 버리고 새로 생성되길 기다린다) */
+    public void changeThumbnail(String thumbnailUrl) {
+        this.thumbnailUrl = thumbnailUrl;
+        this.thumbnailSmallUrl = null;
+        this.thumbnailMediumUrl = null;
+        this.thumbnailLargeUrl = null;
     }
 
-    public void increaseStock(int quantity) { // 재고 복구
-        this.stockQuantity += quantity;
+    /**
+     * 상세 이미지 목록을 제자리에서 바꾼다 (리스트를 통째로 교체하면 전체 DELETE 후 재INSERT 된다).
+     * - 순서 컬럼 기준으로 값이 달라진 위치만 UPDATE, 늘어난 만큼 INSERT, 줄어든 만큼 뒤에서 DELETE
+     */
+    public void replaceDetailImages(List<String> urls) {
+        if (detailImages == null) {
+            detailImages = new ArrayList<>(urls);
+            return;
+        }
+        int common = Math.min(detailImages.size(), urls.size());
+        for (int i = 0; i < common; i++) {
+            if (!Objects.equals(detailImages.get(i), urls.get(i))) {
+                detailImages.set(i, urls.get(i));
+            }
+        }
+        for (int i = detailImages.size() - 1; i >= urls.size(); i--) {
+            detailImages.remove(i);
+        }
+        for (int i = common; i < urls.size(); i++) {
+            detailImages.add(urls.get(i));
+        }
     }
+
+    public enum ItemStatus { AVAILABLE, UNAVAILABLE } // 상태 ENUM
 }
@@ -0,0 +1,24 @@
+package com.rentex.item.dto;
+
+import com.rentex.item.domain.Item;
+
+/**
+ * 공개 카탈로그 목록용 장비 요약
+ * - 목록 화면에 필요한 컬럼만 (상세 설명 LOB / 상세 이미지 컬렉션 제외) 한 번의 쿼리로 읽는다.
+ * - thumbnailUrl 은 카드 크기(medium) 파생 이미지, 아직 없으면 원본.
+ */
+public record ItemCatalogDTO(
+        Long id,
+        String name,
+        String description,
+        int stockQuantity,
+        Item.ItemStatus status,
+        int dailyPrice,
+        String thumbnailUrl,
+        Long categoryId,
+        String categoryName,
+        Long subCategoryId,
+        String subCategoryName,
+        Long partnerId,
+        String partnerName
+) { }
@@ -0,0 +1,4 @@
+package com.rentex.item.dto;
+
+/** 검색 색인용 상세 설명 (LOB 컬럼만 따로 읽는다) */
+public record ItemDetailTextDTO(Long itemId, String detailDescription) { }
@@ -0,0 +1,12 @@
+package com.rentex.item.dto;
+
+import java.util.List;
+
+/**
+ * 일괄 등록 결과 (올바른 행은 등록, 잘못된 행은 줄 번호와 사유만 보고)
+ * @param line 파일 기준 줄 번호 (CSV 는 헤더가 1번 줄)
+ */
+public record ItemImportReportDTO(int totalRows, int importedCount, int failedCount, List<RowError> errors) {
+
+    public record RowError(long line, String message) { }
+}
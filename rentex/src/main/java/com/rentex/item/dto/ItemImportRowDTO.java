@@ -0,0 +1,21 @@
+package com.rentex.item.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * 일괄 등록 파일의 한 행 (CSV 헤더 / JSON 필드 이름 동일)
+ * - 검증 전 원본 값이라 모두 문자열로 받고, 서비스에서 행 단위 오류 메시지와 함께 변환한다.
+ * - category / subCategory 는 id 또는 이름 (subCategory 이름은 category 안에서 찾는다)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ItemImportRowDTO(
+        String name,
+        String description,
+        String stockQuantity,
+        String dailyPrice,
+        String status,
+        String category,
+        String subCategory,
+        String detailDescription,
+        String thumbnailUrl
+) { }
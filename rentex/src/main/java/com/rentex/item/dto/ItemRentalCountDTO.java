@@ -0,0 +1,4 @@
+package com.rentex.item.dto;
+
+/** 장비별 누적 대여 건수 (자동완성 인기도) */
+public record ItemRentalCountDTO(Long itemId, long rentalCount) { }
@@ -18,6 +18,9 @@ public class ItemResponseDTO {
     private String status;
     private Long partnerId;
     private String thumbnailUrl;
+    private String thumbnailSmallUrl;  // 파생 이미지 (생성 전이면 null)
+    private String thumbnailMediumUrl;
+    private String thumbnailLargeUrl;
     private int dailyPrice;
     private Long categoryId;      // 대분류 카테고리 ID
     private Long subCategoryId;
@@ -38,6 +41,9 @@ public class ItemResponseDTO {
                 .status(item.getStatus().name())
                 .partnerId(item.getPartner() != null ? item.getPartner().getId() : null)
                 .thumbnailUrl(item.getThumbnailUrl())
+                .thumbnailSmallUrl(item.getThumbnailSmallUrl())
+                .thumbnailMediumUrl(item.getThumbnailMediumUrl())
+                .thumbnailLargeUrl(item.getThumbnailLargeUrl())
                 .dailyPrice(item.getDailyPrice())
                 .categoryId(item.getCategory() != null ? item.getCategory().getId() : null)
                 .subCategoryId(item.getSubCategory() != null ? item.getSubCategory().getId() : null)
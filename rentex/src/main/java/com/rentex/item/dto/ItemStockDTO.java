@@ -0,0 +1,12 @@
+package com.rentex.item.dto;
+
+import com.rentex.item.domain.Item;
+
+/** 가용성 검색용 장비 요약 (보유 수량 / 상태 / 카테고리만) */
+public record ItemStockDTO(
+        Long itemId,
+        int stockQuantity,
+        Item.ItemStatus status,
+        Long categoryId,
+        Long subCategoryId
+) { }
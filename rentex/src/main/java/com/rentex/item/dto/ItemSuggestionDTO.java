@@ -0,0 +1,9 @@
+package com.rentex.item.dto;
+
+/**
+ * 검색어 자동완성 후보
+ * @param type   ITEM (장비명) | SUB_CATEGORY (서브카테고리명)
+ * @param id     type 에 따라 장비 id 또는 서브카테고리 id
+ * @param weight 인기도 (누적 대여 건수, 서브카테고리는 소속 장비 합)
+ */
+public record ItemSuggestionDTO(String text, String type, Long id, long weight) { }
@@ -0,0 +1,7 @@
+package com.rentex.item.event;
+
+/**
+ * 장비 등록/수정/삭제 이벤트
+ * ItemService 에서 발행하며, 트랜잭션 커밋 이후 대여 가용성 비트맵 등이 구독한다.
+ */
+public record ItemChangedEvent(Long itemId) { }
@@ -0,0 +1,7 @@
+package com.rentex.item.event;
+
+/**
+ * 장비 일괄 등록 이벤트
+ * 건마다 ItemChangedEvent 를 보내는 대신 한 번만 발행하며, 구독하는 색인/비트맵은 전체 재적재한다.
+ */
+public record ItemsImportedEvent(Long partnerId, int count) { }
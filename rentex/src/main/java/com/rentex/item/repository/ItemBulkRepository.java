@@ -0,0 +1,57 @@
+package com.rentex.item.repository;
+
+import com.rentex.item.domain.Item;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 장비 일괄 INSERT (JDBC 배치)
+ * - Item 은 IDENTITY 키라 Hibernate 가 INSERT 를 배치로 묶지 못하므로, 일괄 등록은 JDBC 배치로 직접 넣는다.
+ * - 감사 필드(created_at/updated_at)와 버전은 엔티티 리스너 대신 여기서 채운다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ItemBulkRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    /** 검증이 끝난 등록 행 */
+    public record NewItem(String name, String description, int stockQuantity, int dailyPrice, Item.ItemStatus status,
+                          Long partnerId, Long categoryId, Long subCategoryId,
+                          String detailDescription, String thumbnailUrl) { }
+
+    private static final String INSERT_SQL = """
+        INSERT INTO item (name, description, stock_quantity, daily_price, status, partner_id,
+                          category_id, sub_category_id, detail_description, thumbnail_url,
+                          version, created_at, updated_at)
+        VALUES (:name, :description, :stockQuantity, :dailyPrice, :status, :partnerId,
+                :categoryId, :subCategoryId, :detailDescription, :thumbnailUrl,
+                0, :now, :now)
+        """;
+
+    /** 한 번의 배치로 INSERT (호출 측 트랜잭션 안에서) */
+    public int[] insertAll(List<NewItem> items) {
+        LocalDateTime now = LocalDateTime.now();
+        SqlParameterSource[] params = items.stream()
+                .map(item -> new MapSqlParameterSource()
+                        .addValue("name", item.name())
+                        .addValue("description", item.description())
+                        .addValue("stockQuantity", item.stockQuantity())
+                        .addValue("dailyPrice", item.dailyPrice())
+                        .addValue("status", item.status().name())
+                        .addValue("partnerId", item.partnerId())
+                        .addValue("categoryId", item.categoryId())
+                        .addValue("subCategoryId", item.subCategoryId())
+                        .addValue("detailDescription", item.detailDescription())
+                        .addValue("thumbnailUrl", item.thumbnailUrl())
+                        .addValue("now", now))
+                .toArray(SqlParameterSource[]::new);
+        return jdbc.batchUpdate(INSERT_SQL, params);
+    }
+}
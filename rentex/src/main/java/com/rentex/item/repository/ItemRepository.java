@@ -1,13 +1,21 @@
 package com.rentex.item.repository;
 
 import com.rentex.item.domain.Item;
+import com.rentex.item.dto.ItemCatalogDTO;
+import com.rentex.item.dto.ItemDetailTextDTO;
 import com.rentex.item.dto.ItemResponseDTO;
+import com.rentex.item.dto.ItemStockDTO;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,4 +46,164 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
     List<Item> findAllByOrderByIdDesc(Pageable pageable);
 
     Optional<Item> findTopByOrderByCreatedAtDesc();
+
+    /** 가용성 비트맵 적재용: 전체 장비 요약 */
+    @Query("""
+        SELECT new com.rentex.item.dto.ItemStockDTO(
+            i.id, i.stockQuantity, i.status, i.category.id, i.subCategory.id
+        )
+        FROM Item i
+    """)
+    List<ItemStockDTO> findAllStock();
+
+    /** 가용성 비트맵 갱신용: 단일 장비 요약 */
+    @Query("""
+        SELECT new com.rentex.item.dto.ItemStockDTO(
+            i.id, i.stockQuantity, i.status, i.category.id, i.subCategory.id
+        )
+        FROM Item i
+        WHERE i.id = :id
+    """)
+    Optional<ItemStockDTO> findStockById(@Param("id") Long id);
+
+    /** 상세 ETag 용 버전 (응답에 카테고리/서브카/파트너명이 포함되므로 함께) */
+    interface DetailVersion {
+        Long getItemVersion();
+        Long getCategoryVersion();
+        Long getSubCategoryVersion();
+        LocalDateTime getPartnerUpdatedAt();
+    }
+
+    @Query("""
+        SELECT i.version AS itemVersion, c.version AS categoryVersion,
+               s.version AS subCategoryVersion, p.updatedAt AS partnerUpdatedAt
+        FROM Item i
+        LEFT JOIN i.category c
+        LEFT JOIN i.subCategory s
+        LEFT JOIN i.partner p
+        WHERE i.id = :id
+    """)
+    Optional<DetailVersion> findDetailVersionById(@Param("id") Long id);
+
+    /** 공개 카탈로그: 필터 + 페이지 (연관 엔티티/LOB 없이 목록 컬럼만) */
+    @Query(value = """
+        SELECT new com.rentex.item.dto.ItemCatalogDTO(
+            i.id, i.name, i.description, i.stockQuantity, i.status, i.dailyPrice,
+            COALESCE(i.thumbnailMediumUrl, i.thumbnailUrl),
+            c.id, c.name, sc.id, sc.name, p.id, p.name
+        )
+        FROM Item i
+        JOIN i.partner p
+        LEFT JOIN i.category c
+        LEFT JOIN i.subCategory sc
+        WHERE (:categoryId IS NULL OR c.id = :categoryId)
+          AND (:subCategoryId IS NULL OR sc.id = :subCategoryId)
+          AND (:minPrice IS NULL OR i.dailyPrice >= :minPrice)
+          AND (:maxPrice IS NULL OR i.dailyPrice <= :maxPrice)
+          AND (:status IS NULL OR i.status = :status)
+    """, countQuery = """
+        SELECT COUNT(i)
+        FROM Item i
+        WHERE (:categoryId IS NULL OR i.category.id = :categoryId)
+          AND (:subCategoryId IS NULL OR i.subCategory.id = :subCategoryId)
+          AND (:minPrice IS NULL OR i.dailyPrice >= :minPrice)
+          AND (:maxPrice IS NULL OR i.dailyPrice <= :maxPrice)
+          AND (:status IS NULL OR i.status = :status)
+    """)
+    Page<ItemCatalogDTO> findCatalog(@Param("categoryId") Long categoryId,
+                                     @Param("subCategoryId") Long subCategoryId,
+                                     @Param("minPrice") Integer minPrice,
+                                     @Param("maxPrice") Integer maxPrice,
+                                     @Param("status") Item.ItemStatus status,
+                                     Pageable pageable);
+
+    /** 검색 색인 적재용: 전체 장비 목록 요약 */
+    @Query("""
+        SELECT new com.rentex.item.dto.ItemCatalogDTO(
+            i.id, i.name, i.description, i.stockQuantity, i.status, i.dailyPrice,
+            COALESCE(i.thumbnailMediumUrl, i.thumbnailUrl),
+            c.id, c.name, sc.id, sc.name, p.id, p.name
+        )
+        FROM Item i
+        JOIN i.partner p
+        LEFT JOIN i.category c
+        LEFT JOIN i.subCategory sc
+    """)
+    List<ItemCatalogDTO> findAllCatalog();
+
+    /** 검색 색인 갱신용: 단일 장비 목록 요약 */
+    @Query("""
+        SELECT new com.rentex.item.dto.ItemCatalogDTO(
+            i.id, i.name, i.description, i.stockQuantity, i.status, i.dailyPrice,
+            COALESCE(i.thumbnailMediumUrl, i.thumbnailUrl),
+            c.id, c.name, sc.id, sc.name, p.id, p.name
+        )
+        FROM Item i
+        JOIN i.partner p
+        LEFT JOIN i.category c
+        LEFT JOIN i.subCategory sc
+        WHERE i.id = :id
+    """)
+    Optional<ItemCatalogDTO> findCatalogById(@Param("id") Long id);
+
+    @Query("SELECT new com.rentex.item.dto.ItemDetailTextDTO(i.id, i.detailDescription) FROM Item i")
+    List<ItemDetailTextDTO> findAllDetailText();
+
+    @Query("SELECT new com.rentex.item.dto.ItemDetailTextDTO(i.id, i.detailDescription) FROM Item i WHERE i.id = :id")
+    Optional<ItemDetailTextDTO> findDetailTextById(@Param("id") Long id);
+
+    /** 썸네일 파생 이미지 생성 대상 (로컬 업로드 원본 중 파생 이미지가 아직 없는 것) */
+    interface ThumbnailSource {
+        Long getId();
+        String getThumbnailUrl();
+    }
+
+    @Query("""
+        SELECT i.id AS id, i.thumbnailUrl AS thumbnailUrl
+        FROM Item i
+        WHERE i.thumbnailUrl LIKE '/uploads/%' AND i.thumbnailSmallUrl IS NULL
+        ORDER BY i.id
+    """)
+    List<ThumbnailSource> findThumbnailsWithoutVariants(Pageable pageable);
+
+    @Query("""
+        SELECT i.id AS id, i.thumbnailUrl AS thumbnailUrl
+        FROM Item i
+        WHERE i.id = :id AND i.thumbnailUrl LIKE '/uploads/%' AND i.thumbnailSmallUrl IS NULL
+    """)
+    Optional<ThumbnailSource> findThumbnailWithoutVariantsById(@Param("id") Long id);
+
+    /** 파생 이미지 기록 (그 사이 썸네일이 바뀌었으면 0건, 버전 증가로 ETag 갱신) */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        UPDATE Item i
+        SET i.thumbnailSmallUrl = :small, i.thumbnailMediumUrl = :medium, i.thumbnailLargeUrl = :large,
+            i.version = i.version + 1
+        WHERE i.id = :id AND i.thumbnailUrl = :source
+    """)
+    int updateThumbnailVariants(@Param("id") Long id,
+                                @Param("source") String source,
+                                @Param("small") String small,
+                                @Param("medium") String medium,
+                                @Param("large") String large);
+
+    /** 버전만 증가 (행 잠금 + ETag 갱신, 0 이면 없는 장비) */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Item i SET i.version = i.version + 1 WHERE i.id = :id")
+    int incrementVersion(@Param("id") Long id);
+
+    /** 상세 이미지 1장을 맨 뒤에 추가 (컬렉션을 읽지 않고 행 하나만 INSERT, 순서는 (item_id, image_order) 인덱스로) */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO item_detail_images (item_id, image_url, image_order)
+        SELECT :itemId, :url, COALESCE(MAX(d.image_order) + 1, 0)
+        FROM item_detail_images d
+        WHERE d.item_id = :itemId
+    """, nativeQuery = true)
+    int appendDetailImage(@Param("itemId") Long itemId, @Param("url") String url);
+
+    /** 조회와 함께 버전을 강제 증가 (같은 장비에 대한 동시 승인 충돌 감지용) */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT i FROM Item i WHERE i.id = :id")
+    Optional<Item> findByIdForVersionIncrement(@Param("id") Long id);
 }
@@ -0,0 +1,407 @@
+package com.rentex.item.service;
+
+import com.rentex.item.dto.ItemCatalogDTO;
+import com.rentex.item.dto.ItemRentalCountDTO;
+import com.rentex.item.dto.ItemSuggestionDTO;
+import com.rentex.item.event.ItemChangedEvent;
+import com.rentex.item.event.ItemsImportedEvent;
+import com.rentex.item.repository.ItemRepository;
+import com.rentex.rental.repository.RentalArchiveRepository;
+import com.rentex.rental.repository.RentalRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * 검색어 자동완성 (장비명 + 서브카테고리명 접두어 트라이)
+ * - 노드마다 인기도(누적 대여 건수) 상위 MAX_K 개 후보를 미리 계산해 두므로, 조회는 접두어 길이만큼 내려가면 끝난다.
+ * - 한글은 자모 단위로 분해해 색인한다. 입력 중인 "캠ㅍ" 도 "캠핑" 의 접두어로 잡힌다.
+ * - 이름 중간 단어(예: "캐논 EOS R6" 의 "eos") 에서 시작하는 입력도 매칭된다.
+ * - 스냅샷은 만든 뒤 바꾸지 않고 통째로 교체한다 (조회는 volatile 읽기 한 번, 락 없음).
+ *   장비 변경 시에는 바뀐 후보(장비 + 소속 서브카테고리)의 키 경로에 있는 노드만 새로 만들어
+ *   나머지 노드를 공유하는 새 루트로 교체한다 (path copying). 후보가 그대로면(썸네일 변경 등) 교체하지 않는다.
+ * - 전체 재생성은 기동 / 일괄 등록 / 인기도 주기 갱신 때만 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemAutocompleteIndex {
+
+    static final int MAX_K = 10;
+
+    private static final String TYPE_ITEM = "ITEM";
+    private static final String TYPE_SUB_CATEGORY = "SUB_CATEGORY";
+
+    private final ItemRepository itemRepository;
+    private final RentalRepository rentalRepository;
+    private final RentalArchiveRepository rentalArchiveRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    // --- 아래 상태는 this 로 동기화 (스냅샷 재생성용 원본) ---
+    private final Map<Long, ItemCatalogDTO> items = new HashMap<>();
+    private final Map<Long, Long> rentalCounts = new HashMap<>();
+    private final Map<Long, ItemSuggestionDTO> subCategories = new HashMap<>(); // 현재 스냅샷의 서브카테고리 후보
+    private final Map<Long, Integer> subCategoryItems = new HashMap<>();       // 서브카테고리별 소속 장비 수
+
+    /** 기동 시 적재 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /** 전체 재적재 (장비 + 인기도) */
+    public void rebuild() {
+        List<ItemCatalogDTO> all = itemRepository.findAllCatalog();
+        Map<Long, Long> counts = loadRentalCounts();
+
+        synchronized (this) {
+            items.clear();
+            all.forEach(item -> items.put(item.id(), item));
+            rentalCounts.clear();
+            rentalCounts.putAll(counts);
+            publish();
+        }
+    }
+
+    /** 인기도 주기 갱신 (대여 건수는 장비 변경 없이도 바뀐다) */
+    @Scheduled(fixedDelayString = "${item.autocomplete.refresh-interval-ms:600000}",
+               initialDelayString = "${item.autocomplete.refresh-interval-ms:600000}")
+    public void refreshPopularity() {
+        Map<Long, Long> counts = loadRentalCounts();
+        synchronized (this) {
+            rentalCounts.clear();
+            rentalCounts.putAll(counts);
+            publish();
+        }
+    }
+
+    /** 일괄 등록은 건마다 반영하지 않고 전체 재적재 */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onItemsImported(ItemsImportedEvent event) {
+        rebuild();
+    }
+
+    /** 장비 등록/수정/삭제 반영 (바뀐 후보의 키 경로만 갱신) */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        ItemCatalogDTO fresh = itemRepository.findCatalogById(event.itemId()).orElse(null);
+        synchronized (this) {
+            ItemCatalogDTO old = fresh != null ? items.put(fresh.id(), fresh) : items.remove(event.itemId());
+            long weight = rentalCounts.getOrDefault(event.itemId(), 0L);
+
+            Set<Long> touched = new HashSet<>();
+            if (old != null && hasSubCategory(old)) touched.add(old.subCategoryId());
+            if (fresh != null && hasSubCategory(fresh)) touched.add(fresh.subCategoryId());
+
+            List<ItemSuggestionDTO> removed = new ArrayList<>();
+            List<ItemSuggestionDTO> added = new ArrayList<>();
+            touched.forEach(id -> Optional.ofNullable(subCategories.get(id)).ifPresent(removed::add));
+            if (old != null) {
+                removed.add(itemEntry(old, weight));
+                if (hasSubCategory(old)) countIntoSubCategory(old, -weight, -1);
+            }
+            if (fresh != null) {
+                added.add(itemEntry(fresh, weight));
+                if (hasSubCategory(fresh)) countIntoSubCategory(fresh, weight, 1);
+            }
+            touched.forEach(id -> Optional.ofNullable(subCategories.get(id)).ifPresent(added::add));
+
+            // 양쪽에 같은 후보가 있으면 건드리지 않는다
+            List<ItemSuggestionDTO> unchanged = removed.stream().filter(added::contains).toList();
+            removed.removeAll(unchanged);
+            added.removeAll(unchanged);
+            if (!removed.isEmpty() || !added.isEmpty()) {
+                snapshot = snapshot.update(removed, added);
+            }
+        }
+    }
+
+    /** 접두어로 시작하는 후보 상위 limit 개 (인기도 내림차순) */
+    public List<ItemSuggestionDTO> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) return List.of();
+        return snapshot.lookup(key, Math.max(1, Math.min(limit, MAX_K)));
+    }
+
+    // === 내부 ===
+
+    private Map<Long, Long> loadRentalCounts() {
+        Map<Long, Long> counts = new HashMap<>();
+        for (ItemRentalCountDTO row : rentalRepository.countRentalsByItem()) {
+            counts.merge(row.itemId(), row.rentalCount(), Long::sum);
+        }
+        for (ItemRentalCountDTO row : rentalArchiveRepository.countRentalsByItem()) {
+            counts.merge(row.itemId(), row.rentalCount(), Long::sum);
+        }
+        return counts;
+    }
+
+    // this 동기화 안에서 호출: 전체 재생성
+    private void publish() {
+        long started = System.currentTimeMillis();
+        List<ItemSuggestionDTO> entries = new ArrayList<>(items.size());
+        subCategories.clear();
+        subCategoryItems.clear();
+
+        for (ItemCatalogDTO item : items.values()) {
+            long weight = rentalCounts.getOrDefault(item.id(), 0L);
+            entries.add(itemEntry(item, weight));
+            if (hasSubCategory(item)) countIntoSubCategory(item, weight, 1);
+        }
+        entries.addAll(subCategories.values());
+
+        snapshot = Snapshot.build(entries);
+        log.debug("자동완성 스냅샷 갱신: entries={}, {}ms", entries.size(), System.currentTimeMillis() - started);
+    }
+
+    private static ItemSuggestionDTO itemEntry(ItemCatalogDTO item, long weight) {
+        return new ItemSuggestionDTO(item.name(), TYPE_ITEM, item.id(), weight);
+    }
+
+    private static boolean hasSubCategory(ItemCatalogDTO item) {
+        return item.subCategoryId() != null && item.subCategoryName() != null;
+    }
+
+    // this 동기화 안에서 호출: 서브카테고리 후보의 인기도/소속 장비 수 가감 (장비가 없어지면 후보 제거)
+    private void countIntoSubCategory(ItemCatalogDTO item, long weight, int count) {
+        Long id = item.subCategoryId();
+        int remaining = subCategoryItems.merge(id, count, Integer::sum);
+        if (remaining <= 0) {
+            subCategoryItems.remove(id);
+            subCategories.remove(id);
+            return;
+        }
+        ItemSuggestionDTO current = subCategories.get(id);
+        subCategories.put(id, new ItemSuggestionDTO(
+                current != null ? current.text() : item.subCategoryName(), TYPE_SUB_CATEGORY, id,
+                (current != null ? current.weight() : 0L) + weight));
+    }
+
+    /** NFC + 소문자 + 공백 정리, 한글 음절은 호환 자모로 분해 (NFKC 는 호환 자모를 조합형으로 바꾸므로 쓰지 않는다) */
+    static String normalize(String text) {
+        if (text == null) return "";
+        String s = Normalizer.normalize(text, Normalizer.Form.NFC)
+                .toLowerCase(Locale.ROOT)
+                .strip()
+                .replaceAll("\\s+", " ");
+        return HangulJamo.decompose(s);
+    }
+
+    // 후보 정렬: 인기도 내림차순 → 짧은 이름 → 이름순
+    static final Comparator<ItemSuggestionDTO> RANKING = Comparator
+            .comparingLong(ItemSuggestionDTO::weight).reversed()
+            .thenComparingInt(s -> s.text().length())
+            .thenComparing(ItemSuggestionDTO::text);
+
+    /** 불변 트라이 스냅샷 (자식은 정렬된 char 배열 + 이분 탐색) */
+    static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(Node.EMPTY);
+
+        private final Node root;
+
+        private Snapshot(Node root) {
+            this.root = root;
+        }
+
+        List<ItemSuggestionDTO> lookup(String key, int limit) {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            if (node == null) return List.of();
+            return List.of(Arrays.copyOf(node.top, Math.min(limit, node.top.length)));
+        }
+
+        static Snapshot build(List<ItemSuggestionDTO> entries) {
+            BuildNode root = new BuildNode();
+            for (ItemSuggestionDTO entry : entries) {
+                for (String key : keys(entry.text())) {
+                    BuildNode node = root;
+                    for (int i = 0; i < key.length(); i++) {
+                        node = node.children.computeIfAbsent(key.charAt(i), c -> new BuildNode());
+                    }
+                    node.terminals.add(entry);
+                }
+            }
+            return new Snapshot(root.freeze());
+        }
+
+        /** 후보 제거 / 추가를 반영한 새 스냅샷 (키 경로의 노드만 새로 만들고 나머지는 공유) */
+        Snapshot update(Collection<ItemSuggestionDTO> removed, Collection<ItemSuggestionDTO> added) {
+            Node next = root;
+            for (ItemSuggestionDTO entry : removed) {
+                for (String key : keys(entry.text())) next = next.edit(key, 0, entry, false);
+            }
+            for (ItemSuggestionDTO entry : added) {
+                for (String key : keys(entry.text())) next = next.edit(key, 0, entry, true);
+            }
+            return new Snapshot(next);
+        }
+
+        // 이름 전체 + 두 번째 단어부터 시작하는 접미 (중간 단어 입력도 매칭)
+        private static Set<String> keys(String text) {
+            String normalized = normalize(text);
+            Set<String> keys = new LinkedHashSet<>();
+            if (normalized.isEmpty()) return keys;
+            keys.add(normalized);
+            for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+                if (i + 1 < normalized.length()) keys.add(normalized.substring(i + 1));
+            }
+            return keys;
+        }
+    }
+
+    /**
+     * 불변 트라이 노드
+     * - terminals: 키가 이 노드에서 끝나는 후보, top: 이 노드 아래 후보 상위 MAX_K 개
+     * - top 은 terminals + 자식들의 top 으로 계산된다 (하위 상위 K 의 합집합에 전체 상위 K 가 들어 있다).
+     */
+    private static final class Node {
+        static final Node EMPTY = new Node(new char[0], new Node[0], new ItemSuggestionDTO[0], new ItemSuggestionDTO[0]);
+
+        final char[] labels;
+        final Node[] children;
+        final ItemSuggestionDTO[] terminals;
+        final ItemSuggestionDTO[] top;
+
+        private Node(char[] labels, Node[] children, ItemSuggestionDTO[] terminals, ItemSuggestionDTO[] top) {
+            this.labels = labels;
+            this.children = children;
+            this.terminals = terminals;
+            this.top = top;
+        }
+
+        static Node of(char[] labels, Node[] children, ItemSuggestionDTO[] terminals) {
+            if (labels.length == 0 && terminals.length == 0) return EMPTY;
+            List<ItemSuggestionDTO> candidates = new ArrayList<>(Arrays.asList(terminals));
+            for (Node child : children) {
+                Collections.addAll(candidates, child.top);
+            }
+            ItemSuggestionDTO[] top = candidates.stream()
+                    .distinct() // 같은 후보가 여러 키로 같은 노드를 지나는 경우
+                    .sorted(RANKING)
+                    .limit(MAX_K)
+                    .toArray(ItemSuggestionDTO[]::new);
+            return new Node(labels, children, terminals, top);
+        }
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        // key[depth..] 경로 끝에 후보 추가/제거. 경로 위 노드만 새로 만든다 (없는 후보 제거는 그대로 반환)
+        Node edit(String key, int depth, ItemSuggestionDTO entry, boolean add) {
+            if (depth == key.length()) {
+                List<ItemSuggestionDTO> next = new ArrayList<>(Arrays.asList(terminals));
+                boolean changed = add
+                        ? !next.contains(entry) && next.add(entry)
+                        : next.removeIf(t -> t.type().equals(entry.type()) && t.id().equals(entry.id()));
+                return changed ? of(labels, children, next.toArray(new ItemSuggestionDTO[0])) : this;
+            }
+
+            char c = key.charAt(depth);
+            int i = Arrays.binarySearch(labels, c);
+            Node child = i >= 0 ? children[i] : (add ? EMPTY : null);
+            if (child == null) return this;
+            Node edited = child.edit(key, depth + 1, entry, add);
+            if (edited == child) return this;
+
+            if (i >= 0 && edited == EMPTY) {
+                // 빈 자식은 떼어낸다
+                char[] nextLabels = new char[labels.length - 1];
+                Node[] nextChildren = new Node[children.length - 1];
+                System.arraycopy(labels, 0, nextLabels, 0, i);
+                System.arraycopy(labels, i + 1, nextLabels, i, labels.length - i - 1);
+                System.arraycopy(children, 0, nextChildren, 0, i);
+                System.arraycopy(children, i + 1, nextChildren, i, children.length - i - 1);
+                return of(nextLabels, nextChildren, terminals);
+            }
+            if (i >= 0) {
+                Node[] nextChildren = children.clone();
+                nextChildren[i] = edited;
+                return of(labels, nextChildren, terminals);
+            }
+            int at = -i - 1;
+            char[] nextLabels = new char[labels.length + 1];
+            Node[] nextChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, nextLabels, 0, at);
+            System.arraycopy(labels, at, nextLabels, at + 1, labels.length - at);
+            System.arraycopy(children, 0, nextChildren, 0, at);
+            System.arraycopy(children, at, nextChildren, at + 1, children.length - at);
+            nextLabels[at] = c;
+            nextChildren[at] = edited;
+            return of(nextLabels, nextChildren, terminals);
+        }
+    }
+
+    // 빌드 전용 가변 노드
+    private static final class BuildNode {
+        final TreeMap<Character, BuildNode> children = new TreeMap<>();
+        final List<ItemSuggestionDTO> terminals = new ArrayList<>(1);
+
+        Node freeze() {
+            char[] labels = new char[children.size()];
+            Node[] frozen = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, BuildNode> e : children.entrySet()) {
+                labels[i] = e.getKey();
+                frozen[i] = e.getValue().freeze();
+                i++;
+            }
+            return Node.of(labels, frozen, terminals.stream().distinct().toArray(ItemSuggestionDTO[]::new));
+        }
+    }
+
+    /**
+     * 한글 음절 → 호환 자모 (초성 + 중성 + 종성)
+     * 겹모음/겹받침은 입력 순서대로 풀어 쓴다 (과 → ㄱㅗㅏ, 닭 → ㄷㅏㄹㄱ).
+     * 그래야 입력 중간 상태("고", "달ㄱ")가 완성된 글자의 접두어가 된다.
+     */
+    static final class HangulJamo {
+        private static final String[] CHO = {
+                "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+        private static final String[] JUNG = {
+                "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ",
+                "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+        private static final String[] JONG = {
+                "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+                "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+
+        // 낱자로 입력된 겹자모 (ㄳ, ㅘ 등)
+        private static final Map<Character, String> COMPOUND = Map.ofEntries(
+                Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"), Map.entry('ㄺ', "ㄹㄱ"),
+                Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"), Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"),
+                Map.entry('ㄿ', "ㄹㅍ"), Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"),
+                Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"), Map.entry('ㅝ', "ㅜㅓ"),
+                Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ"));
+
+        private HangulJamo() {}
+
+        static String decompose(String s) {
+            StringBuilder sb = new StringBuilder(s.length() * 3);
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                if (c >= 0xAC00 && c <= 0xD7A3) {
+                    int offset = c - 0xAC00;
+                    sb.append(CHO[offset / (21 * 28)])
+                      .append(JUNG[(offset % (21 * 28)) / 28])
+                      .append(JONG[offset % 28]);
+                } else {
+                    sb.append(COMPOUND.getOrDefault(c, String.valueOf(c)));
+                }
+            }
+            return sb.toString();
+        }
+    }
+}
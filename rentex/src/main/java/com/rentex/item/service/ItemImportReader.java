@@ -0,0 +1,158 @@
+package com.rentex.item.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.rentex.item.dto.ItemImportRowDTO;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 일괄 등록 파일 스트리밍 파서 (UTF-8, 파일 전체를 메모리에 올리지 않고 한 행씩 넘긴다)
+ * - CSV        : 첫 줄 헤더(필드 이름, 대소문자 무시), RFC 4180 따옴표/줄바꿈 지원
+ * - JSON Lines : 한 줄에 객체 하나, 빈 줄은 건너뜀
+ * 행을 해석하지 못하면 row = null 과 사유를 넘기고 다음 행을 계속 읽는다.
+ */
+final class ItemImportReader {
+
+    enum Format { CSV, JSON_LINES }
+
+    interface RowHandler {
+        /** @return false 면 읽기 중단 */
+        boolean accept(long line, ItemImportRowDTO row, String error);
+    }
+
+    private static final List<String> COLUMNS = List.of(
+            "name", "description", "stockquantity", "dailyprice", "status",
+            "category", "subcategory", "detaildescription", "thumbnailurl");
+
+    private final BufferedReader reader;
+    private long physicalLine; // 지금까지 읽은 줄바꿈 수
+
+    private ItemImportReader(InputStream in) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    static void read(InputStream in, Format format, ObjectMapper objectMapper, RowHandler handler) throws IOException {
+        ItemImportReader r = new ItemImportReader(in);
+        r.skipBom();
+        if (format == Format.CSV) {
+            r.readCsv(handler);
+        } else {
+            r.readJsonLines(objectMapper.readerFor(ItemImportRowDTO.class), handler);
+        }
+    }
+
+    // === JSON Lines ===
+
+    private void readJsonLines(ObjectReader rowReader, RowHandler handler) throws IOException {
+        String text;
+        while ((text = reader.readLine()) != null) {
+            long line = ++physicalLine;
+            if (text.isBlank()) continue;
+            boolean more;
+            try {
+                more = handler.accept(line, rowReader.readValue(text), null);
+            } catch (JsonProcessingException e) {
+                more = handler.accept(line, null, "JSON 형식 오류: " + e.getOriginalMessage());
+            }
+            if (!more) return;
+        }
+    }
+
+    // === CSV ===
+
+    private void readCsv(RowHandler handler) throws IOException {
+        List<String> header = nextRecord();
+        if (header == null) return;
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            index.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!index.containsKey("name")) {
+            handler.accept(1, null, "CSV 헤더에 name 컬럼이 없습니다. 사용 가능한 컬럼: " + COLUMNS);
+            return;
+        }
+
+        while (true) {
+            long line = physicalLine + 1;
+            List<String> fields = nextRecord();
+            if (fields == null) return;
+            if (fields.size() == 1 && fields.get(0).isBlank()) continue; // 빈 줄
+
+            ItemImportRowDTO row = new ItemImportRowDTO(
+                    field(fields, index, "name"),
+                    field(fields, index, "description"),
+                    field(fields, index, "stockquantity"),
+                    field(fields, index, "dailyprice"),
+                    field(fields, index, "status"),
+                    field(fields, index, "category"),
+                    field(fields, index, "subcategory"),
+                    field(fields, index, "detaildescription"),
+                    field(fields, index, "thumbnailurl"));
+            if (!handler.accept(line, row, null)) return;
+        }
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> index, String column) {
+        Integer i = index.get(column);
+        return i == null || i >= fields.size() ? null : fields.get(i);
+    }
+
+    /** 다음 레코드 (따옴표 안의 쉼표/줄바꿈 허용, "" 는 따옴표 하나), 끝이면 null */
+    private List<String> nextRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean any = false;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            any = true;
+            char ch = (char) c;
+            if (quoted) {
+                if (ch == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) reader.reset();
+                    }
+                } else {
+                    if (ch == '\n') physicalLine++;
+                    field.append(ch);
+                }
+            } else if (ch == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\n') {
+                physicalLine++;
+                fields.add(field.toString());
+                return fields;
+            } else if (ch != '\r') {
+                field.append(ch);
+            }
+        }
+        if (!any) return null;
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private void skipBom() throws IOException {
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') reader.reset();
+    }
+}
@@ -0,0 +1,257 @@
+package com.rentex.item.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rentex.category.domain.Category;
+import com.rentex.category.domain.SubCategory;
+import com.rentex.category.repository.CategoryRepository;
+import com.rentex.category.repository.SubCategoryRepository;
+import com.rentex.global.exception.CustomException;
+import com.rentex.global.exception.ErrorCode;
+import com.rentex.item.domain.Item.ItemStatus;
+import com.rentex.item.dto.ItemImportReportDTO;
+import com.rentex.item.dto.ItemImportReportDTO.RowError;
+import com.rentex.item.dto.ItemImportRowDTO;
+import com.rentex.item.event.ItemsImportedEvent;
+import com.rentex.item.repository.ItemBulkRepository;
+import com.rentex.item.repository.ItemBulkRepository.NewItem;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 파트너 장비 일괄 등록 (CSV / JSON Lines)
+ * - 파일은 한 행씩 스트리밍으로 읽고, 카테고리/서브카테고리는 시작 시 한 번 읽은 맵에서 찾는다 (행마다 조회 없음).
+ * - 올바른 행만 chunk-size 개씩 모아 JDBC 배치 INSERT (청크마다 트랜잭션), 잘못된 행은 줄 번호와 사유로 보고한다.
+ * - 색인/비트맵 갱신은 건마다 하지 않고 끝난 뒤 ItemsImportedEvent 한 번으로 재적재한다.
+ */
+@Slf4j
+@Service
+public class ItemImportService {
+
+    static final int MAX_ROWS = 10_000;
+    private static final int NAME_MAX_LENGTH = 100;
+    private static final int DESCRIPTION_MAX_LENGTH = 255;
+    private static final int URL_MAX_LENGTH = 500;
+
+    private final ItemBulkRepository itemBulkRepository;
+    private final CategoryRepository categoryRepository;
+    private final SubCategoryRepository subCategoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate chunkTx;
+    private final int chunkSize;
+
+    public ItemImportService(ItemBulkRepository itemBulkRepository,
+                             CategoryRepository categoryRepository,
+                             SubCategoryRepository subCategoryRepository,
+                             ApplicationEventPublisher eventPublisher,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${item.import.chunk-size:500}") int chunkSize) {
+        this.itemBulkRepository = itemBulkRepository;
+        this.categoryRepository = categoryRepository;
+        this.subCategoryRepository = subCategoryRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.chunkTx = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public ItemImportReportDTO importItems(Long partnerId, MultipartFile file) {
+        ItemImportReader.Format format = detectFormat(file);
+        CategoryLookup categories = new CategoryLookup(categoryRepository.findAll(), subCategoryRepository.findAll());
+        Run run = new Run(partnerId, categories);
+
+        long started = System.currentTimeMillis();
+        try (InputStream in = file.getInputStream()) {
+            ItemImportReader.read(in, format, objectMapper, run::accept);
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.INVALID_IMPORT_FILE);
+        }
+        run.flush();
+
+        if (run.imported > 0) {
+            eventPublisher.publishEvent(new ItemsImportedEvent(partnerId, run.imported));
+        }
+        log.info("장비 일괄 등록: partnerId={}, rows={}, imported={}, failed={}, {}ms",
+                partnerId, run.total, run.imported, run.errors.size(), System.currentTimeMillis() - started);
+        return new ItemImportReportDTO(run.total, run.imported, run.errors.size(), run.errors);
+    }
+
+    // === 내부 ===
+
+    private ItemImportReader.Format detectFormat(MultipartFile file) {
+        String ext = StringUtils.getFilenameExtension(String.valueOf(file.getOriginalFilename()));
+        String contentType = String.valueOf(file.getContentType());
+        if ("csv".equalsIgnoreCase(ext) || contentType.startsWith("text/csv")) {
+            return ItemImportReader.Format.CSV;
+        }
+        if ("jsonl".equalsIgnoreCase(ext) || "ndjson".equalsIgnoreCase(ext)
+                || contentType.startsWith("application/x-ndjson") || contentType.startsWith("application/jsonl")) {
+            return ItemImportReader.Format.JSON_LINES;
+        }
+        throw new CustomException(ErrorCode.INVALID_IMPORT_FILE);
+    }
+
+    /** 한 번의 일괄 등록 진행 상태 (행 검증 → 청크 버퍼 → 배치 INSERT) */
+    private class Run {
+        private final Long partnerId;
+        private final CategoryLookup categories;
+        private final List<NewItem> chunk = new ArrayList<>();
+        private final List<Long> chunkLines = new ArrayList<>();
+        private final List<RowError> errors = new ArrayList<>();
+        private int total;
+        private int imported;
+
+        Run(Long partnerId, CategoryLookup categories) {
+            this.partnerId = partnerId;
+            this.categories = categories;
+        }
+
+        boolean accept(long line, ItemImportRowDTO row, String parseError) {
+            if (total >= MAX_ROWS) {
+                errors.add(new RowError(line, "최대 " + MAX_ROWS + "행까지 등록할 수 있습니다. 이후 행은 처리하지 않았습니다."));
+                return false;
+            }
+            total++;
+            if (parseError != null) {
+                errors.add(new RowError(line, parseError));
+                return true;
+            }
+            try {
+                chunk.add(validate(row));
+                chunkLines.add(line);
+            } catch (IllegalArgumentException e) {
+                errors.add(new RowError(line, e.getMessage()));
+            }
+            if (chunk.size() >= chunkSize) flush();
+            return true;
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) return;
+            try {
+                chunkTx.executeWithoutResult(status -> itemBulkRepository.insertAll(chunk));
+                imported += chunk.size();
+            } catch (DataAccessException e) {
+                log.warn("장비 일괄 등록 청크 저장 실패: partnerId={}, rows={}", partnerId, chunk.size(), e);
+                String message = "저장 실패 (같은 묶음 " + chunk.size() + "행 전체 미등록): "
+                        + e.getMostSpecificCause().getMessage();
+                chunkLines.forEach(line -> errors.add(new RowError(line, message)));
+            }
+            chunk.clear();
+            chunkLines.clear();
+        }
+
+        private NewItem validate(ItemImportRowDTO row) {
+            String name = trimToNull(row.name());
+            if (name == null) throw new IllegalArgumentException("name 은 필수입니다.");
+            if (name.length() > NAME_MAX_LENGTH) {
+                throw new IllegalArgumentException("name 은 " + NAME_MAX_LENGTH + "자 이하여야 합니다.");
+            }
+            String description = trimToNull(row.description());
+            if (description != null && description.length() > DESCRIPTION_MAX_LENGTH) {
+                throw new IllegalArgumentException("description 은 " + DESCRIPTION_MAX_LENGTH + "자 이하여야 합니다.");
+            }
+
+            int stockQuantity = parseNonNegative(row.stockQuantity(), "stockQuantity");
+            int dailyPrice = parseNonNegative(row.dailyPrice(), "dailyPrice");
+            ItemStatus status = parseStatus(row.status());
+
+            Category category = categories.category(trimToNull(row.category()));
+            SubCategory subCategory = categories.subCategory(category, trimToNull(row.subCategory()));
+
+            String thumbnailUrl = trimToNull(row.thumbnailUrl());
+            if (thumbnailUrl != null && (thumbnailUrl.length() > URL_MAX_LENGTH
+                    || !(thumbnailUrl.startsWith("https://") || thumbnailUrl.startsWith("http://")
+                    || thumbnailUrl.startsWith("/uploads/")))) {
+                throw new IllegalArgumentException("thumbnailUrl 은 http(s):// 또는 /uploads/ 로 시작하는 "
+                        + URL_MAX_LENGTH + "자 이하 주소여야 합니다.");
+            }
+
+            return new NewItem(name, description, stockQuantity, dailyPrice, status, partnerId,
+                    category.getId(), subCategory.getId(), trimToNull(row.detailDescription()), thumbnailUrl);
+        }
+    }
+
+    private static int parseNonNegative(String raw, String field) {
+        String value = trimToNull(raw);
+        if (value == null) throw new IllegalArgumentException(field + " 은 필수입니다.");
+        try {
+            int parsed = Integer.parseInt(value.replace(",", ""));
+            if (parsed < 0) throw new IllegalArgumentException(field + " 은 0 이상이어야 합니다.");
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(field + " 은 정수여야 합니다: " + value);
+        }
+    }
+
+    private static ItemStatus parseStatus(String raw) {
+        String value = trimToNull(raw);
+        if (value == null) return ItemStatus.AVAILABLE;
+        try {
+            return ItemStatus.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("status 는 AVAILABLE 또는 UNAVAILABLE 이어야 합니다: " + value);
+        }
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) return null;
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    /** 카테고리/서브카테고리 맵 (id 또는 이름, 이름은 대소문자 무시) */
+    private static final class CategoryLookup {
+        private final Map<String, Category> categories = new HashMap<>();
+        private final Map<String, SubCategory> subCategories = new HashMap<>(); // "id" 또는 "categoryId:이름"
+
+        CategoryLookup(List<Category> categoryList, List<SubCategory> subCategoryList) {
+            for (Category c : categoryList) {
+                categories.put(String.valueOf(c.getId()), c);
+                categories.putIfAbsent(normalize(c.getName()), c);
+            }
+            for (SubCategory s : subCategoryList) {
+                subCategories.put(String.valueOf(s.getId()), s);
+                subCategories.putIfAbsent(s.getCategory().getId() + ":" + normalize(s.getName()), s);
+            }
+        }
+
+        Category category(String key) {
+            if (key == null) throw new IllegalArgumentException("category 는 필수입니다.");
+            Category category = categories.get(key);
+            if (category == null) category = categories.get(normalize(key));
+            if (category == null) throw new IllegalArgumentException("존재하지 않는 category 입니다: " + key);
+            return category;
+        }
+
+        SubCategory subCategory(Category category, String key) {
+            if (key == null) throw new IllegalArgumentException("subCategory 는 필수입니다.");
+            SubCategory sub = subCategories.get(key);
+            if (sub == null) sub = subCategories.get(category.getId() + ":" + normalize(key));
+            if (sub == null || !sub.getCategory().getId().equals(category.getId())) {
+                throw new IllegalArgumentException("'" + category.getName() + "' 에 속한 subCategory 가 아닙니다: " + key);
+            }
+            return sub;
+        }
+
+        private static String normalize(String name) {
+            return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.rentex.item.service;
+
+import com.rentex.item.domain.Item;
+import com.rentex.item.dto.ItemCatalogDTO;
+import com.rentex.item.dto.ItemDetailTextDTO;
+import com.rentex.item.event.ItemChangedEvent;
+import com.rentex.item.event.ItemsImportedEvent;
+import com.rentex.item.repository.ItemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 장비 검색용 인메모리 역색인
+ * - 장비명 / 카테고리·서브카테고리명 / 간단 설명 / 상세 설명을 n-gram(1글자 + 2글자)으로 쪼개 색인한다.
+ *   한국어는 띄어쓰기·조사와 무관하게 부분 문자열로 찾을 수 있어야 하므로 형태소 분석 대신 n-gram 을 쓴다.
+ * - 검색어의 n-gram 을 모두 포함하는 장비만 후보로 두고(희소한 것부터 교집합), BM25 로 점수를 매긴다.
+ *   필드마다 가중치를 달리해 장비명 일치가 상세 설명 일치보다 앞선다.
+ * - 목록 응답(ItemCatalogDTO)도 같이 들고 있어 검색 시 DB 를 읽지 않는다.
+ * - 장비 등록/수정/삭제(ItemChangedEvent) 시 해당 장비만 다시 색인한다.
+ *
+ * ⚠️ 인스턴스 로컬 색인. 카테고리명 변경은 rebuild() 전까지 반영되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemSearchIndex {
+
+    // 필드 가중치
+    private static final float NAME_WEIGHT = 4.0f;
+    private static final float CATEGORY_WEIGHT = 2.0f;
+    private static final float DESCRIPTION_WEIGHT = 1.5f;
+    private static final float DETAIL_WEIGHT = 1.0f;
+
+    // BM25 파라미터
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    private final ItemRepository itemRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // --- 아래 상태는 모두 lock 으로 보호 ---
+    private final Map<String, Map<Long, Float>> postings = new HashMap<>();   // n-gram → (장비 id → 가중 빈도)
+    private final Map<Long, Set<String>> gramsByItem = new HashMap<>();        // 삭제/갱신 시 postings 정리용
+    private final Map<Long, Float> lengthByItem = new HashMap<>();             // 가중 문서 길이
+    private final Map<Long, ItemCatalogDTO> summaries = new HashMap<>();
+    private double totalLength;
+
+    /** 기동 시 적재 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /** 전체 재색인 */
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        List<ItemCatalogDTO> items = itemRepository.findAllCatalog();
+        Map<Long, String> details = new HashMap<>();
+        for (ItemDetailTextDTO text : itemRepository.findAllDetailText()) {
+            details.put(text.itemId(), text.detailDescription());
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            gramsByItem.clear();
+            lengthByItem.clear();
+            summaries.clear();
+            totalLength = 0;
+            for (ItemCatalogDTO item : items) {
+                add(item, details.get(item.id()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("장비 검색 색인 적재 완료: items={}, grams={}, {}ms",
+                items.size(), postings.size(), System.currentTimeMillis() - started);
+    }
+
+    /** 일괄 등록은 건마다 반영하지 않고 전체 재적재 */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onItemsImported(ItemsImportedEvent event) {
+        rebuild();
+    }
+
+    /** 장비 등록/수정/삭제 반영 */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        ItemCatalogDTO fresh = itemRepository.findCatalogById(event.itemId()).orElse(null);
+        String detail = fresh != null
+                ? itemRepository.findDetailTextById(event.itemId()).map(ItemDetailTextDTO::detailDescription).orElse(null)
+                : null;
+
+        lock.writeLock().lock();
+        try {
+            remove(event.itemId());
+            if (fresh != null) add(fresh, detail);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 (점수 내림차순, 같은 점수는 최신 id 우선)
+     * @param categoryId / status  선택 필터
+     */
+    public Page<ItemCatalogDTO> search(String query, Long categoryId, Item.ItemStatus status, Pageable pageable) {
+        List<String> grams = queryGrams(query);
+        if (grams.isEmpty()) return Page.empty(pageable);
+
+        List<Scored> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            // 희소한 n-gram 부터 교집합 (하나라도 없으면 결과 없음)
+            List<Map<Long, Float>> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                Map<Long, Float> list = postings.get(gram);
+                if (list == null) return Page.empty(pageable);
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            int docCount = summaries.size();
+            double avgLength = docCount == 0 ? 1 : totalLength / docCount;
+
+            candidates:
+            for (Long itemId : lists.get(0).keySet()) {
+                ItemCatalogDTO item = summaries.get(itemId);
+                if (categoryId != null && !categoryId.equals(item.categoryId())) continue;
+                if (status != null && status != item.status()) continue;
+
+                double norm = K1 * (1 - B + B * lengthByItem.get(itemId) / avgLength);
+                double score = 0;
+                for (Map<Long, Float> list : lists) {
+                    Float tf = list.get(itemId);
+                    if (tf == null) continue candidates;
+                    double idf = Math.log(1 + (docCount - list.size() + 0.5) / (list.size() + 0.5));
+                    score += idf * tf * (K1 + 1) / (tf + norm);
+                }
+                hits.add(new Scored(item, score));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(Comparator.comparingDouble(Scored::score).reversed()
+                .thenComparing(s -> s.item().id(), Comparator.reverseOrder()));
+
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+        List<ItemCatalogDTO> content = hits.subList(from, to).stream().map(Scored::item).toList();
+        return new PageImpl<>(content, pageable, hits.size());
+    }
+
+    // === 내부 (writeLock 안에서 호출) ===
+
+    private void add(ItemCatalogDTO item, String detailDescription) {
+        Map<String, Float> weights = new HashMap<>();
+        accumulate(weights, item.name(), NAME_WEIGHT);
+        accumulate(weights, item.categoryName(), CATEGORY_WEIGHT);
+        accumulate(weights, item.subCategoryName(), CATEGORY_WEIGHT);
+        accumulate(weights, item.description(), DESCRIPTION_WEIGHT);
+        accumulate(weights, stripTags(detailDescription), DETAIL_WEIGHT);
+
+        float length = 0;
+        for (Map.Entry<String, Float> e : weights.entrySet()) {
+            postings.computeIfAbsent(e.getKey(), k -> new HashMap<>()).put(item.id(), e.getValue());
+            length += e.getValue();
+        }
+        gramsByItem.put(item.id(), weights.keySet());
+        lengthByItem.put(item.id(), Math.max(1f, length));
+        summaries.put(item.id(), item);
+        totalLength += Math.max(1f, length);
+    }
+
+    private void remove(Long itemId) {
+        Set<String> grams = gramsByItem.remove(itemId);
+        if (grams == null) return;
+        for (String gram : grams) {
+            Map<Long, Float> list = postings.get(gram);
+            if (list == null) continue;
+            list.remove(itemId);
+            if (list.isEmpty()) postings.remove(gram);
+        }
+        Float length = lengthByItem.remove(itemId);
+        if (length != null) totalLength -= length;
+        summaries.remove(itemId);
+    }
+
+    private static void accumulate(Map<String, Float> weights, String text, float weight) {
+        for (String token : tokens(text)) {
+            for (int i = 0; i < token.length(); i++) {
+                weights.merge(token.substring(i, i + 1), weight, Float::sum);
+                if (i + 1 < token.length()) {
+                    weights.merge(token.substring(i, i + 2), weight, Float::sum);
+                }
+            }
+        }
+    }
+
+    // 검색어: 두 글자 이상 토큰은 2-gram, 한 글자 토큰은 1-gram
+    static List<String> queryGrams(String query) {
+        LinkedHashSet<String> grams = new LinkedHashSet<>();
+        for (String token : tokens(query)) {
+            if (token.length() == 1) {
+                grams.add(token);
+            } else {
+                for (int i = 0; i + 1 < token.length(); i++) {
+                    grams.add(token.substring(i, i + 2));
+                }
+            }
+        }
+        return new ArrayList<>(grams);
+    }
+
+    // NFKC 정규화(전각/호환 문자 통일) + 소문자, 글자/숫자 외 문자로 분리
+    private static List<String> tokens(String text) {
+        if (text == null || text.isBlank()) return List.of();
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        for (String token : normalized.split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) tokens.add(token);
+        }
+        return tokens;
+    }
+
+    private static String stripTags(String html) {
+        return html == null ? null : html.replaceAll("<[^>]*>", " ");
+    }
+
+    private record Scored(ItemCatalogDTO item, double score) {}
+}
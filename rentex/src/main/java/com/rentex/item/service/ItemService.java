@@ -7,18 +7,30 @@ import com.rentex.category.repository.SubCategoryRepository;
 import com.rentex.common.upload.FileUploadService;
 import com.rentex.item.domain.Item;
 import com.rentex.item.domain.Item.ItemStatus;
+import com.rentex.global.exception.CustomException;
+import com.rentex.global.exception.ErrorCode;
+import com.rentex.global.web.ETags;
+import com.rentex.item.dto.ItemCatalogDTO;
 import com.rentex.item.dto.ItemRequestDTO;
 import com.rentex.item.dto.ItemResponseDTO;
+import com.rentex.item.dto.ItemSuggestionDTO;
+import com.rentex.item.event.ItemChangedEvent;
 import com.rentex.user.domain.User; // ✅ Partner → User 로 교체
 import com.rentex.user.repository.UserRepository; // ✅ PartnerRepository → UserRepository 로 교체
 import com.rentex.item.repository.ItemRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,6 +42,14 @@ public class ItemService {
     private final FileUploadService fileUploadService;
     private final CategoryRepository categoryRepository;
     private final SubCategoryRepository subCategoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ItemSearchIndex searchIndex;
+    private final ItemAutocompleteIndex autocompleteIndex;
+
+    // 카탈로그 1페이지 최대 건수 / 허용 정렬 컬럼
+    private static final int CATALOG_MAX_SIZE = 100;
+    private static final int SEARCH_MAX_QUERY_LENGTH = 100;
+    private static final Set<String> CATALOG_SORTS = Set.of("id", "name", "dailyPrice", "stockQuantity", "createdAt");
 
     // 전체 아이템 조회
     public List<ItemResponseDTO> getAllItems() {
@@ -38,6 +58,45 @@ public class ItemService {
                 .collect(Collectors.toList());
     }
 
+    // 공개 카탈로그 (페이지 + 필터, 목록 컬럼만 한 번에 조회)
+    @Transactional(readOnly = true)
+    public Page<ItemCatalogDTO> getCatalog(Long categoryId, Long subCategoryId, Integer minPrice, Integer maxPrice,
+                                           ItemStatus status, Pageable pageable) {
+        return itemRepository.findCatalog(categoryId, subCategoryId, minPrice, maxPrice, status,
+                catalogPage(pageable));
+    }
+
+    // 장비 검색 (인메모리 역색인, 관련도순)
+    public Page<ItemCatalogDTO> searchItems(String query, Long categoryId, ItemStatus status, Pageable pageable) {
+        String q = query == null ? "" : query.strip();
+        if (q.length() > SEARCH_MAX_QUERY_LENGTH) {
+            q = q.substring(0, SEARCH_MAX_QUERY_LENGTH);
+        }
+        int size = Math.max(1, Math.min(pageable.getPageSize(), CATALOG_MAX_SIZE));
+        return searchIndex.search(q, categoryId, status, PageRequest.of(pageable.getPageNumber(), size));
+    }
+
+    // 검색어 자동완성 (인메모리 접두어 트라이, DB 조회 없음)
+    public List<ItemSuggestionDTO> autocomplete(String prefix, int limit) {
+        return autocompleteIndex.suggest(prefix, limit);
+    }
+
+    // 정렬 가능한 컬럼만 허용하고, 같은 값끼리 순서가 흔들리지 않도록 id 를 마지막 기준으로 붙인다
+    private Pageable catalogPage(Pageable pageable) {
+        Sort sort = Sort.unsorted();
+        for (Sort.Order order : pageable.getSort()) {
+            if (!CATALOG_SORTS.contains(order.getProperty())) {
+                throw new CustomException(ErrorCode.INVALID_SORT);
+            }
+            sort = sort.and(Sort.by(order.getDirection(), order.getProperty()));
+        }
+        if (sort.getOrderFor("id") == null) {
+            sort = sort.and(Sort.by(Sort.Direction.DESC, "id"));
+        }
+        int size = Math.max(1, Math.min(pageable.getPageSize(), CATALOG_MAX_SIZE));
+        return PageRequest.of(pageable.getPageNumber(), size, sort);
+    }
+
     // 파트너별 아이템 조회
     public List<ItemResponseDTO> getItemsByPartnerId(Long partnerId) {
         List<Item> items = itemRepository.findItemsByPartnerIdNative(partnerId);
@@ -60,17 +119,15 @@ public class ItemService {
             throw new IllegalArgumentException("SubCategory does not belong to Category");
         }
 
-        // 썸네일 업로드
-        String thumbnailUrl = (thumbnail != null && !thumbnail.isEmpty())
-                ? fileUploadService.upload(thumbnail)
-                : null;
+        // 썸네일 + 상세 이미지 동시 업로드 (모두 끝나야 등록 진행, 하나라도 실패하면 예외)
+        //  - 실패로 참조 없이 남은 파일은 UploadOrphanSweeper 가 정리
+        //  - 썸네일은 원본만 저장, 파생 이미지는 ItemThumbnailVariantPipeline 이 커밋 후 생성
+        boolean hasThumbnail = thumbnail != null && !thumbnail.isEmpty();
+        List<String> uploadedUrls = fileUploadService.uploadAll(uploadTargets(hasThumbnail ? thumbnail : null, detailImages));
 
-        // 상세 이미지 업로드
+        String thumbnailUrl = hasThumbnail ? uploadedUrls.get(0) : null;
         List<String> detailImageUrls = detailImages != null
-                ? detailImages.stream()
-                .filter(file -> !file.isEmpty())
-                .map(fileUploadService::upload)
-                .collect(Collectors.toList())
+                ? new ArrayList<>(uploadedUrls.subList(hasThumbnail ? 1 : 0, uploadedUrls.size()))
                 : null;
 
         Item item = Item.builder()
@@ -88,6 +145,7 @@ public class ItemService {
                 .build();
 
         itemRepository.save(item);
+        eventPublisher.publishEvent(new ItemChangedEvent(item.getId()));
     }
 
     // 아이템 수정
@@ -127,10 +185,13 @@ public class ItemService {
         }
         if (dto.getDetailDescription() != null) item.setDetailDescription(dto.getDetailDescription());
 
-        // 썸네일 수정 (있으면 교체)
-        if (thumbnail != null && !thumbnail.isEmpty()) {
-            String thumbnailUrl = fileUploadService.upload(thumbnail);
-            item.setThumbnailUrl(thumbnailUrl);
+        // 새 썸네일 + 새 상세 이미지 동시 업로드 (하나라도 실패하면 예외 → 수정 롤백, 남은 파일은 고아 정리 대상)
+        boolean hasThumbnail = thumbnail != null && !thumbnail.isEmpty();
+        List<String> uploadedUrls = fileUploadService.uploadAll(uploadTargets(hasThumbnail ? thumbnail : null, detailImages));
+
+        // 썸네일 수정 (있으면 교체, 파생 이미지는 커밋 후 비동기 생성)
+        if (hasThumbnail) {
+            item.changeThumbnail(uploadedUrls.get(0));
         }
 
         if (dto.getDetailImages() != null || (detailImages != null && !detailImages.isEmpty())) {
@@ -142,18 +203,23 @@ public class ItemService {
                 newUrls.addAll(dto.getDetailImages());
             }
 
-            // ✅ 새 이미지 업로드
-            if (detailImages != null && !detailImages.isEmpty()) {
-                newUrls.addAll(
-                        detailImages.stream()
-                                .filter(file -> !file.isEmpty())
-                                .map(fileUploadService::upload)
-                                .toList()
-                );
-            }
-            // 최종 결과로 DB 업데이트 (삭제는 자동 반영됨)
-            item.setDetailImages(newUrls);
+            // ✅ 새 이미지 (위에서 업로드한 순서 그대로)
+            newUrls.addAll(uploadedUrls.subList(hasThumbnail ? 1 : 0, uploadedUrls.size()));
+            // 최종 결과를 제자리 반영 (바뀐 위치만 UPDATE / 늘면 INSERT / 줄면 DELETE)
+            item.replaceDetailImages(newUrls);
         }
+
+        eventPublisher.publishEvent(new ItemChangedEvent(item.getId()));
+    }
+
+    // 업로드 대상: 썸네일(있으면 맨 앞) + 비어 있지 않은 상세 이미지
+    private List<MultipartFile> uploadTargets(MultipartFile thumbnail, List<MultipartFile> detailImages) {
+        List<MultipartFile> targets = new ArrayList<>();
+        if (thumbnail != null) targets.add(thumbnail);
+        if (detailImages != null) {
+            detailImages.stream().filter(file -> !file.isEmpty()).forEach(targets::add);
+        }
+        return targets;
     }
 
     // 단건 조회
@@ -164,24 +230,40 @@ public class ItemService {
         return ItemResponseDTO.fromEntity(item);
     }
 
+    // 단건 조회 ETag (엔티티 로딩 없이 버전 컬럼만, 없는 장비면 null)
+    @Transactional(readOnly = true)
+    public String getItemETag(Long id) {
+        return itemRepository.findDetailVersionById(id)
+                .map(v -> ETags.of("item-" + id, v.getItemVersion(), v.getCategoryVersion(),
+                        v.getSubCategoryVersion(), v.getPartnerUpdatedAt()))
+                .orElse(null);
+    }
+
     // 삭제
     @Transactional
     public void deleteItem(Long id) {
         Item item = itemRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 아이템입니다. id=" + id));
         itemRepository.delete(item);
+        eventPublisher.publishEvent(new ItemChangedEvent(id));
     }
 
+    /**
+     * 상세 이미지 1장 추가 (O(1))
+     * - 기존 목록을 읽거나 다시 쓰지 않고 행 하나만 INSERT 한다.
+     * - 먼저 장비 버전을 올려 행 잠금을 잡으므로 같은 장비에 대한 동시 추가도 순서가 겹치지 않는다.
+     */
     @Transactional
     public String uploadDetailImage(Long itemId, MultipartFile file) {
-        Item item = itemRepository.findById(itemId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 아이템입니다. id=" + itemId));
+        if (!itemRepository.existsById(itemId)) {
+            throw new IllegalArgumentException("존재하지 않는 아이템입니다. id=" + itemId);
+        }
 
         String url = fileUploadService.upload(file);
-        List<String> images = item.getDetailImages();
-        if (images == null) images = new ArrayList<>();
-        images.add(url);
-        item.setDetailImages(images);
+        if (itemRepository.incrementVersion(itemId) == 0) {
+            throw new IllegalArgumentException("존재하지 않는 아이템입니다. id=" + itemId);
+        }
+        itemRepository.appendDetailImage(itemId, url);
 
         return url; // 프론트에 반환
     }
@@ -0,0 +1,142 @@
+package com.rentex.item.service;
+
+import com.rentex.common.upload.ImageVariantGenerator;
+import com.rentex.item.event.ItemChangedEvent;
+import com.rentex.item.repository.ItemRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 장비 썸네일 파생 이미지(small/medium/large) 비동기 생성
+ * - 등록/수정 요청은 원본만 저장하고 바로 반환, 커밋 후 ItemChangedEvent 를 받아 작업 큐에 넣는다.
+ * - 작업 스레드/큐 크기가 정해진 전용 풀에서 처리하고, 큐가 가득 차면 버린다 (주기 점검에서 다시 잡힘).
+ * - 생성이 끝나면 썸네일이 그대로인 경우에만 장비에 기록한다 (그 사이 교체됐으면 버림).
+ * - 생성 전이나 실패한 장비는 원본 썸네일로 응답된다.
+ */
+@Slf4j
+@Component
+public class ItemThumbnailVariantPipeline {
+
+    private final ItemRepository itemRepository;
+    private final ImageVariantGenerator generator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int sweepBatchSize;
+    private final ThreadPoolExecutor executor;
+
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    // 원본을 읽을 수 없어 실패한 (장비, 원본) → 주기 점검에서 다시 시도하지 않음
+    private final Set<String> failed = ConcurrentHashMap.newKeySet();
+
+    public ItemThumbnailVariantPipeline(ItemRepository itemRepository,
+                                        ImageVariantGenerator generator,
+                                        ApplicationEventPublisher eventPublisher,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${item.image-variant.threads:2}") int threads,
+                                        @Value("${item.image-variant.queue-capacity:100}") int queueCapacity,
+                                        @Value("${item.image-variant.sweep-batch-size:50}") int sweepBatchSize) {
+        this.itemRepository = itemRepository;
+        this.generator = generator;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sweepBatchSize = sweepBatchSize;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "item-image-variant-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /** 장비 등록/수정 커밋 후 파생 이미지가 없으면 생성 요청 */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        itemRepository.findThumbnailWithoutVariantsById(event.itemId())
+                .ifPresent(source -> submit(source.getId(), source.getThumbnailUrl()));
+    }
+
+    /** 주기 점검: 큐 포화/재기동 등으로 빠진 장비와 기존 장비를 조금씩 채운다 */
+    @Scheduled(initialDelayString = "${item.image-variant.sweep-initial-delay-ms:60000}",
+            fixedDelayString = "${item.image-variant.sweep-interval-ms:300000}")
+    public void sweep() {
+        int submitted = 0;
+        for (ItemRepository.ThumbnailSource source
+                : itemRepository.findThumbnailsWithoutVariants(PageRequest.of(0, sweepBatchSize + failed.size()))) {
+            if (submitted >= sweepBatchSize) break;
+            if (failed.contains(failureKey(source.getId(), source.getThumbnailUrl()))) continue;
+            if (submit(source.getId(), source.getThumbnailUrl())) submitted++;
+        }
+        if (submitted > 0) {
+            log.info("썸네일 파생 이미지 점검: {}건 생성 요청", submitted);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // === 내부 ===
+
+    private boolean submit(Long itemId, String sourceUrl) {
+        if (!generator.isLocal(sourceUrl) || !inFlight.add(itemId)) return false;
+        try {
+            executor.execute(() -> {
+                try {
+                    process(itemId, sourceUrl);
+                } finally {
+                    inFlight.remove(itemId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(itemId);
+            log.warn("썸네일 파생 이미지 큐 포화, 다음 점검에서 처리: itemId={}", itemId);
+            return false;
+        }
+    }
+
+    private void process(Long itemId, String sourceUrl) {
+        ImageVariantGenerator.Variants variants;
+        try {
+            variants = generator.generate(sourceUrl);
+        } catch (IOException | RuntimeException e) {
+            failed.add(failureKey(itemId, sourceUrl));
+            log.warn("썸네일 파생 이미지 생성 실패, 원본 사용: itemId={}, source={}", itemId, sourceUrl, e);
+            return;
+        }
+
+        Integer updated = transactionTemplate.execute(status -> itemRepository.updateThumbnailVariants(
+                itemId, sourceUrl, variants.smallUrl(), variants.mediumUrl(), variants.largeUrl()));
+        if (updated != null && updated > 0) {
+            // 검색 색인 등 목록 요약을 들고 있는 쪽이 새 썸네일을 반영하도록
+            eventPublisher.publishEvent(new ItemChangedEvent(itemId));
+        }
+    }
+
+    private static String failureKey(Long itemId, String sourceUrl) {
+        return itemId + ":" + sourceUrl;
+    }
+}
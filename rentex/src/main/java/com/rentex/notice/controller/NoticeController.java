@@ -1,13 +1,16 @@
 package com.rentex.notice.controller;
 
+import com.rentex.global.web.ETags;
 import com.rentex.notice.dto.NoticeDtos.*;
 import com.rentex.notice.service.NoticeService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api")
@@ -16,15 +19,19 @@ public class NoticeController {
 
     private final NoticeService noticeService;
 
+    // 목록/상세는 버전만 먼저 조회해 If-None-Match 가 같으면 본문 없이 304
     @GetMapping("/notices")
-    public NoticeListResponse list(@RequestParam(defaultValue = "0") int page,
-                                   @RequestParam(defaultValue = "10") int size) {
-        return noticeService.list(page, size);
+    public ResponseEntity<NoticeListResponse> list(@RequestParam(defaultValue = "0") int page,
+                                                   @RequestParam(defaultValue = "10") int size,
+                                                   WebRequest request) {
+        return ETags.conditional(request, noticeService.listETag(), () -> noticeService.list(page, size));
     }
 
     @GetMapping("/notices/{id}")
-    public NoticeDetail detail(@PathVariable Long id) {
-        return noticeService.detail(id);
+    public ResponseEntity<NoticeDetail> detail(@PathVariable Long id, WebRequest request) {
+        return ETags.conditional(request, noticeService.detailETag(id),
+                () -> noticeService.detail(id),
+                () -> noticeService.increaseViewCount(id));
     }
 
     // --- ADMIN 전용 ---
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface NoticeRepository extends JpaRepository<Notice,Long> {
@@ -21,4 +22,45 @@ public interface NoticeRepository extends JpaRepository<Notice,Long> {
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("update Notice n set n.viewCount = n.viewCount + 1 where  n.id = :id")
     int increaseViewCount(@Param("id")long id);
+
+    /**
+     * 목록 ETag 용 버전
+     * - 추가/삭제 → 건수·최대 id, 수정 → 최종 수정 시각, 댓글 수 변화 → 댓글 건수·최대 id
+     * - 조회수 증가는 벌크 update 라 updatedAt 을 건드리지 않는다.
+     */
+    interface ListVersion {
+        Long getCnt();
+        Long getMaxId();
+        LocalDateTime getLastModified();
+        Long getCommentCnt();
+        Long getMaxCommentId();
+    }
+
+    @Query("""
+    select count(n) as cnt, max(n.id) as maxId, max(n.updatedAt) as lastModified,
+           (select count(c) from NoticeComment c) as commentCnt,
+           (select max(c2.id) from NoticeComment c2) as maxCommentId
+    from Notice n
+    """)
+    ListVersion findListVersion();
+
+    /** 상세 ETag 용 버전 (본문 수정 시각 + 댓글 + 이전/다음 글) */
+    interface DetailVersion {
+        LocalDateTime getLastModified();
+        Long getCommentCnt();
+        Long getMaxCommentId();
+        Long getPrevId();
+        Long getNextId();
+    }
+
+    @Query("""
+    select n.updatedAt as lastModified,
+           (select count(c) from NoticeComment c where c.notice.id = n.id) as commentCnt,
+           (select max(c2.id) from NoticeComment c2 where c2.notice.id = n.id) as maxCommentId,
+           (select max(p.id) from Notice p where p.id < n.id) as prevId,
+           (select min(x.id) from Notice x where x.id > n.id) as nextId
+    from Notice n
+    where n.id = :id
+    """)
+    Optional<DetailVersion> findDetailVersionById(@Param("id") long id);
 }
@@ -1,5 +1,6 @@
 package com.rentex.notice.service;
 
+import com.rentex.global.web.ETags;
 import com.rentex.notice.domain.Notice;
 import com.rentex.notice.domain.NoticeComment;
 import com.rentex.notice.dto.NoticeDtos.Adjacent;
@@ -96,6 +97,27 @@ public class NoticeService {
         );
     }
 
+    /** 공지 목록 ETag (페이지와 무관하게 전체 버전 하나) */
+    public String listETag() {
+        NoticeRepository.ListVersion v = noticeRepo.findListVersion();
+        return ETags.of("notices", v.getCnt(), v.getMaxId(), v.getLastModified(),
+                v.getCommentCnt(), v.getMaxCommentId());
+    }
+
+    /** 공지 상세 ETag (없는 공지면 null → 상세 조회에서 NOT_FOUND) */
+    public String detailETag(Long id) {
+        return noticeRepo.findDetailVersionById(id)
+                .map(v -> ETags.of("notice-" + id, v.getLastModified(), v.getCommentCnt(),
+                        v.getMaxCommentId(), v.getPrevId(), v.getNextId()))
+                .orElse(null);
+    }
+
+    /** 304 로 응답한 상세 조회도 조회수에는 반영 */
+    @Transactional
+    public void increaseViewCount(Long id) {
+        noticeRepo.increaseViewCount(id);
+    }
+
     /** (ADMIN) 공지 생성 */
     @Transactional
     public Long create(Long adminUserId, NoticeCreateRequest req) {
@@ -35,8 +35,7 @@ public class PaymentController {
     @GetMapping("/payments/{id}")
     public PaymentDetailDTO getPaymentById(@PathVariable Long id, Principal principal) {
         User user = userService.getUserById(Long.parseLong(principal.getName()));
-        Payment payment = paymentService.getByIdForUser(id, user); // 본인 소유 검증 포함
-        return PaymentDetailDTO.from(payment);
+        return paymentService.getDetailForUser(id, user); // 본인 소유 검증 포함
     }
 
     @PostMapping("/pay-penalty")
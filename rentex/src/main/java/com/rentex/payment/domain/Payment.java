@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
 public class Payment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_seq_gen")
+    @SequenceGenerator(name = "payment_seq_gen", sequenceName = "payment_seq", allocationSize = 50)
     private Long id;
 
     // 결제한 사용자
@@ -22,11 +23,15 @@ public class Payment {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    // 렌탈과 연관 관계
+    // 렌탈과 연관 관계 (보관 이동된 대여도 가리킬 수 있도록 FK 는 두지 않는다)
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "rental_id")
+    @JoinColumn(name = "rental_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Rental rental;
 
+    // 렌탈 id (읽기 전용, 보관 이동 여부 확인용)
+    @Column(name = "rental_id", insertable = false, updatable = false)
+    private Long rentalId;
+
     // 결제 금액 (예: 벌점당 1000원)
     @Column(nullable = false)
     private int amount;
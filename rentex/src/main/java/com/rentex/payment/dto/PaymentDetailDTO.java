@@ -3,6 +3,7 @@ package com.rentex.payment.dto;
 
 import com.rentex.payment.domain.Payment;
 import com.rentex.rental.domain.Rental;
+import com.rentex.rental.domain.RentalArchive;
 import lombok.Builder;
 
 import java.time.LocalDate;
@@ -36,4 +37,19 @@ public record PaymentDetailDTO(
                 .rentalEndDate(r != null ? r.getEndDate() : null)
                 .build();
     }
+
+    /** 보관 이동된 대여의 결제 (archived 가 없으면 대여 정보는 id 만 채운다) */
+    public static PaymentDetailDTO from(Payment p, RentalArchive archived) {
+        return PaymentDetailDTO.builder()
+                .id(p.getId())
+                .type(p.getType().name())
+                .status(p.getStatus().name())
+                .amount(p.getAmount())
+                .paidAt(p.getPaidAt())
+                .rentalId(p.getRentalId())
+                .itemName(archived != null && archived.getItem() != null ? archived.getItem().getName() : null)
+                .rentalStartDate(archived != null ? archived.getStartDate() : null)
+                .rentalEndDate(archived != null ? archived.getEndDate() : null)
+                .build();
+    }
 }
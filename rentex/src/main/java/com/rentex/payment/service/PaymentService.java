@@ -4,9 +4,12 @@ import com.rentex.payment.domain.Payment;
 import com.rentex.payment.domain.Payment.PaymentMethod;
 import com.rentex.payment.domain.Payment.PaymentStatus;
 import com.rentex.payment.domain.PaymentType;
+import com.rentex.payment.dto.PaymentDetailDTO;
 import com.rentex.payment.repository.PaymentRepository;
 import com.rentex.penalty.domain.Penalty;
 import com.rentex.penalty.service.PenaltyService;
+import com.rentex.rental.repository.RentalArchiveRepository;
+import com.rentex.rental.repository.RentalRepository;
 import com.rentex.user.domain.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -23,6 +26,8 @@ public class PaymentService {
 
     private final PaymentRepository paymentRepository;
     private final PenaltyService penaltyService;
+    private final RentalRepository rentalRepository;
+    private final RentalArchiveRepository rentalArchiveRepository;
 
     /**
      * ✅ 벌점 결제 처리
@@ -111,4 +116,14 @@ public class PaymentService {
         }
         return p;
     }
+
+    /** 결제 상세 (보관 이동된 대여는 보관 테이블에서 대여 정보를 읽는다) */
+    @Transactional(readOnly = true)
+    public PaymentDetailDTO getDetailForUser(Long id, User owner) {
+        Payment p = getByIdForUser(id, owner);
+        if (p.getRentalId() == null || rentalRepository.existsById(p.getRentalId())) {
+            return PaymentDetailDTO.from(p);
+        }
+        return PaymentDetailDTO.from(p, rentalArchiveRepository.findById(p.getRentalId()).orElse(null));
+    }
 }
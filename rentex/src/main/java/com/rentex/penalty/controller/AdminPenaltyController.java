@@ -2,9 +2,11 @@ package com.rentex.penalty.controller;
 
 import com.rentex.penalty.dto.*;
 import com.rentex.penalty.service.AdminPenaltyService;
+import com.rentex.penalty.service.OverduePenaltyJob;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -13,6 +15,7 @@ import java.util.List;
 public class AdminPenaltyController {
 
     private final AdminPenaltyService service;
+    private final OverduePenaltyJob overduePenaltyJob;
 
     /** 전체 + 유저만 조회 통합 */
     @GetMapping
@@ -59,4 +62,16 @@ public class AdminPenaltyController {
     public void deleteEntry(@PathVariable Long entryId) {
         service.deleteEntry(entryId);
     }
+
+    /** 연체 감지 배치 진행 상황 / 최근 실행 결과 */
+    @GetMapping("/overdue-job")
+    public OverdueJobStatusDTO overdueJobStatus() {
+        return overduePenaltyJob.status();
+    }
+
+    /** 연체 감지 배치 수동 실행 (실패 후 재실행 시 남은 대여만 처리) */
+    @PostMapping("/overdue-job/run")
+    public OverdueJobStatusDTO runOverdueJob() {
+        return overduePenaltyJob.run(LocalDate.now());
+    }
 }
@@ -6,8 +6,6 @@ import com.rentex.user.domain.User;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.OnDelete;
-import org.hibernate.annotations.OnDeleteAction;
 
 import java.time.LocalDateTime;
 
@@ -20,7 +18,8 @@ import java.time.LocalDateTime;
 public class Penalty extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "penalty_seq_gen")
+    @SequenceGenerator(name = "penalty_seq_gen", sequenceName = "penalty_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -36,10 +35,14 @@ public class Penalty extends BaseTimeEntity {
     private boolean paid;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "rental_id", nullable = true)
-    @OnDelete(action = OnDeleteAction.SET_NULL)   // 렌탈 삭제 시 rental_id = null
+    @JoinColumn(name = "rental_id", nullable = true,
+            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))   // 보관 이동된 대여도 계속 가리킨다
     private Rental rental;
 
+    // 렌탈 id (읽기 전용, 보관 이동 여부 확인용)
+    @Column(name = "rental_id", insertable = false, updatable = false)
+    private Long rentalId;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 16)
     private PenaltyStatus status = PenaltyStatus.VALID;
@@ -2,6 +2,7 @@ package com.rentex.penalty.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.rentex.penalty.domain.Penalty;
+import com.rentex.rental.domain.RentalArchive;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -52,5 +53,19 @@ public class MyPenaltyResponseDTO {
                     )
                     .build();
         }
+
+        /** 보관 이동된 대여에 대한 벌점 (대여 정보는 보관 테이블 기준) */
+        public static EntryDto from(Penalty penalty, RentalArchive archived) {
+            return EntryDto.builder()
+                    .id(penalty.getId())
+                    .reason(penalty.getReason())
+                    .points(penalty.getPoint())
+                    .givenAt(penalty.getGivenAt())
+                    .status(penalty.getStatus().name())
+                    .itemName(archived != null ? archived.getItem().getName() : null)
+                    .startDate(archived != null ? archived.getStartDate() : null)
+                    .endDate(archived != null ? archived.getEndDate() : null)
+                    .build();
+        }
     }
 }
@@ -0,0 +1,22 @@
+package com.rentex.penalty.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/** 연체 감지 배치 진행 상황 / 최근 실행 결과 */
+@Getter @Builder @NoArgsConstructor @AllArgsConstructor
+public class OverdueJobStatusDTO {
+    private boolean running;
+    private LocalDate targetDate;        // 기준일 (이 날짜 이전에 끝난 대여가 대상)
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;    // 실행 중이면 null
+    private Long lastRentalId;           // 마지막으로 처리한 대여 id (keyset 위치)
+    private int chunks;                  // 커밋된 청크 수
+    private int processed;               // 연체 처리된 대여 수
+    private int penalizedUsers;          // 벌점이 가산된 사용자 수 (청크별 합)
+    private long elapsedMs;
+    private long slowestChunkMs;
+    private String error;                // 실패 시 메시지
+}
@@ -0,0 +1,197 @@
+package com.rentex.penalty.service;
+
+import com.rentex.penalty.domain.Penalty;
+import com.rentex.penalty.domain.PenaltyStatus;
+import com.rentex.penalty.dto.OverdueJobStatusDTO;
+import com.rentex.penalty.repository.PenaltyRepository;
+import com.rentex.rental.domain.Rental;
+import com.rentex.rental.dto.OverdueRentalRow;
+import com.rentex.rental.repository.RentalRepository;
+import com.rentex.user.domain.User;
+import com.rentex.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 연체 감지 배치
+ * - 연체 대여를 id keyset 으로 chunkSize 건씩 잠가 읽고, 청크마다 별도 트랜잭션으로 처리한다.
+ *   1) rental.is_overdue 일괄 UPDATE
+ *   2) 벌점 row 배치 INSERT (시퀀스 ID + JDBC batch)
+ *   3) users.penalty_points 일괄 가산 (같은 가산값끼리 IN 한 번)
+ * - 이미 처리된 대여는 조회 조건(is_overdue = false)에서 빠지므로, 중간에 실패/재시작해도 남은 것만 이어서 처리한다.
+ * - 한 인스턴스 안에서는 동시에 한 번만 실행된다.
+ */
+@Slf4j
+@Service
+public class OverduePenaltyJob {
+
+    private static final String REASON_PREFIX = "반납 기한 초과 (대여 #";
+
+    private final RentalRepository rentalRepository;
+    private final PenaltyRepository penaltyRepository;
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate chunkTx;
+    private final int chunkSize;
+    private final int point;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile OverdueJobStatusDTO status = OverdueJobStatusDTO.builder().build();
+
+    public OverduePenaltyJob(RentalRepository rentalRepository,
+                             PenaltyRepository penaltyRepository,
+                             UserRepository userRepository,
+                             EntityManager entityManager,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${penalty.overdue.chunk-size:500}") int chunkSize,
+                             @Value("${penalty.overdue.point:1}") int point) {
+        this.rentalRepository = rentalRepository;
+        this.penaltyRepository = penaltyRepository;
+        this.userRepository = userRepository;
+        this.entityManager = entityManager;
+        this.chunkTx = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.point = point;
+    }
+
+    /**
+     * today 이전에 반납 기한이 지난 RECEIVED 대여를 모두 연체 처리
+     * @return 실행 결과 (이미 실행 중이면 현재 진행 상황)
+     */
+    public OverdueJobStatusDTO run(LocalDate today) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("연체 감지 배치가 이미 실행 중입니다.");
+            return status;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        long started = System.currentTimeMillis();
+        long lastId = 0L;
+        int chunks = 0, processed = 0, penalizedUsers = 0;
+        long slowest = 0L;
+        String error = null;
+
+        try {
+            while (true) {
+                long chunkStarted = System.currentTimeMillis();
+                final long afterId = lastId;
+                ChunkResult result = chunkTx.execute(tx -> applyChunk(
+                        rentalRepository.lockOverdueChunk(today, afterId, PageRequest.of(0, chunkSize)), afterId));
+                if (result == null || result.rentals() == 0) break;
+
+                long chunkMs = System.currentTimeMillis() - chunkStarted;
+                lastId = result.lastRentalId();
+                chunks++;
+                processed += result.rentals();
+                penalizedUsers += result.users();
+                slowest = Math.max(slowest, chunkMs);
+
+                status = snapshot(true, today, startedAt, null, lastId, chunks, processed,
+                        penalizedUsers, System.currentTimeMillis() - started, slowest, null);
+                log.info("연체 감지 청크 #{}: {}건 (누적 {}건, lastId={}, {}ms)",
+                        chunks, result.rentals(), processed, lastId, chunkMs);
+
+                if (result.rentals() < chunkSize) break;
+            }
+        } catch (RuntimeException e) {
+            // 커밋된 청크는 그대로 유지, 다음 실행 때 아직 연체 처리되지 않은 대여만 다시 잡힌다
+            error = e.getMessage();
+            log.error("연체 감지 배치 실패 (lastId={}, 처리 {}건)", lastId, processed, e);
+        } finally {
+            long elapsed = System.currentTimeMillis() - started;
+            status = snapshot(false, today, startedAt, LocalDateTime.now(), lastId, chunks, processed,
+                    penalizedUsers, elapsed, slowest, error);
+            running.set(false);
+            log.info("연체 감지 배치 종료: {}건 / {}청크 / {}ms (최장 청크 {}ms)",
+                    processed, chunks, elapsed, slowest);
+        }
+        return status;
+    }
+
+    /**
+     * 지정한 대여만 연체 처리 (기한 타이머가 endDate 다음날 0시에 호출)
+     * - 전체 배치와 같은 청크 처리 경로를 쓰며, 이미 처리된 대여는 건너뛴다.
+     * @return 실제로 연체 처리된 건수
+     */
+    public int markOverdue(Collection<Long> rentalIds, LocalDate today) {
+        List<Long> ids = List.copyOf(rentalIds);
+        int processed = 0;
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + chunkSize));
+            ChunkResult result = chunkTx.execute(tx -> applyChunk(
+                    rentalRepository.lockOverdueByIds(today, chunk), 0L));
+            if (result != null) processed += result.rentals();
+        }
+        return processed;
+    }
+
+    /** 진행 상황 / 최근 실행 결과 */
+    public OverdueJobStatusDTO status() {
+        return status;
+    }
+
+    // 한 청크 = 한 트랜잭션 (rows 는 같은 트랜잭션에서 잠근 연체 대여)
+    private ChunkResult applyChunk(List<OverdueRentalRow> rows, long afterId) {
+        if (rows.isEmpty()) return new ChunkResult(0, 0, afterId);
+
+        List<Long> rentalIds = rows.stream().map(OverdueRentalRow::rentalId).toList();
+        rentalRepository.markOverdueIn(rentalIds);
+
+        List<Penalty> penalties = rows.stream()
+                .map(row -> Penalty.builder()
+                        .user(entityManager.getReference(User.class, row.userId()))
+                        .rental(entityManager.getReference(Rental.class, row.rentalId()))
+                        .reason(REASON_PREFIX + row.rentalId() + ")")
+                        .point(point)
+                        .paid(false)
+                        .status(PenaltyStatus.VALID)
+                        .build())
+                .toList();
+        penaltyRepository.saveAll(penalties);
+        entityManager.flush();
+
+        // 사용자별 연체 건수 → 같은 가산값끼리 묶어 UPDATE (대부분 1건이라 한두 번이면 끝난다)
+        Map<Long, Long> countByUser = rows.stream()
+                .collect(Collectors.groupingBy(OverdueRentalRow::userId, Collectors.counting()));
+        countByUser.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())))
+                .forEach((count, userIds) ->
+                        userRepository.increasePenaltyPointsIn(userIds, (int) (count * point)));
+
+        return new ChunkResult(rows.size(), countByUser.size(), rentalIds.get(rentalIds.size() - 1));
+    }
+
+    private OverdueJobStatusDTO snapshot(boolean running, LocalDate today, LocalDateTime startedAt,
+                                         LocalDateTime finishedAt, long lastId, int chunks, int processed,
+                                         int penalizedUsers, long elapsedMs, long slowestChunkMs, String error) {
+        return OverdueJobStatusDTO.builder()
+                .running(running)
+                .targetDate(today)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .lastRentalId(lastId)
+                .chunks(chunks)
+                .processed(processed)
+                .penalizedUsers(penalizedUsers)
+                .elapsedMs(elapsedMs)
+                .slowestChunkMs(slowestChunkMs)
+                .error(error)
+                .build();
+    }
+
+    private record ChunkResult(int rentals, int users, long lastRentalId) {}
+}
@@ -5,6 +5,8 @@ import com.rentex.penalty.dto.MyPenaltyResponseDTO;
 import com.rentex.penalty.dto.PenaltyWithRentalDTO;
 import com.rentex.penalty.repository.PenaltyRepository;
 import com.rentex.rental.domain.Rental;
+import com.rentex.rental.domain.RentalArchive;
+import com.rentex.rental.repository.RentalArchiveRepository;
 import com.rentex.rental.repository.RentalRepository;
 import com.rentex.user.domain.User;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +15,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -21,6 +29,7 @@ public class PenaltyService {
 
     private final PenaltyRepository penaltyRepository;
     private final RentalRepository rentalRepository;
+    private final RentalArchiveRepository rentalArchiveRepository;
 
     /** 유저의 전체 벌점 내역 조회 */
     @Transactional(readOnly = true)
@@ -51,9 +60,24 @@ public class PenaltyService {
         // 미납 여부 (paid=false 있으면 true)
         boolean hasUnpaid = penalties.stream().anyMatch(p -> !p.isPaid());
 
+        // 보관 이동된 대여는 rental 연관 대신 보관 테이블에서 한 번에 읽는다
+        Set<Long> rentalIds = penalties.stream()
+                .map(Penalty::getRentalId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> hotIds = rentalIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(rentalRepository.findExistingIds(rentalIds));
+        Map<Long, RentalArchive> archived = rentalArchiveRepository.findAllById(
+                        rentalIds.stream().filter(id -> !hotIds.contains(id)).toList())
+                .stream()
+                .collect(Collectors.toMap(RentalArchive::getId, Function.identity()));
+
         // DTO 변환
         List<MyPenaltyResponseDTO.EntryDto> entryDtos = penalties.stream()
-                .map(MyPenaltyResponseDTO.EntryDto::from)
+                .map(p -> p.getRentalId() != null && !hotIds.contains(p.getRentalId())
+                        ? MyPenaltyResponseDTO.EntryDto.from(p, archived.get(p.getRentalId()))
+                        : MyPenaltyResponseDTO.EntryDto.from(p))
                 .toList();
 
         return MyPenaltyResponseDTO.builder()
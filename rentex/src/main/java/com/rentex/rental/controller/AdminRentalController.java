@@ -1,19 +1,28 @@
 package com.rentex.rental.controller;
 
+import com.rentex.global.retry.OptimisticLockMetrics;
 import com.rentex.rental.domain.RentalStatus;
+import com.rentex.rental.dto.RentalCursorSliceDto;
 import com.rentex.rental.dto.RentalResponseDto;
+import com.rentex.rental.service.RentalArchiveService;
+import com.rentex.rental.service.RentalAvailabilityCache;
 import com.rentex.rental.service.RentalService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/admin/rentals")
 public class AdminRentalController {
 
     private final RentalService rentalService;
+    private final OptimisticLockMetrics optimisticLockMetrics;
+    private final RentalAvailabilityCache availabilityCache;
+    private final RentalArchiveService rentalArchiveService;
 
     @GetMapping
     public ResponseEntity<Page<RentalResponseDto>> getAllRentals(
@@ -25,4 +34,33 @@ public class AdminRentalController {
         Page<RentalResponseDto> result = rentalService.getAllRentals(status, pageable);
         return ResponseEntity.ok(result);
     }
+
+    /** 전체 대여 목록 (커서 기반, OFFSET / COUNT 없이 깊은 페이지도 일정한 속도) */
+    @GetMapping("/cursor")
+    public ResponseEntity<RentalCursorSliceDto> getAllRentalsByCursor(
+            @RequestParam(required = false) RentalStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        return ResponseEntity.ok(rentalService.getAllRentalsByCursor(status, cursor, size, withTotal));
+    }
+
+    /** 상태 전이 동시성 충돌/재시도 통계 */
+    @GetMapping("/contention")
+    public ResponseEntity<OptimisticLockMetrics.Snapshot> getContention() {
+        return ResponseEntity.ok(optimisticLockMetrics.snapshot());
+    }
+
+    /** 대여 가능 여부 응답 캐시 적중/미스 통계 */
+    @GetMapping("/availability-cache")
+    public ResponseEntity<RentalAvailabilityCache.Stats> getAvailabilityCacheStats() {
+        return ResponseEntity.ok(availabilityCache.stats());
+    }
+
+    /** 종료된 대여 보관 이동 수동 실행 (기본은 매일 새벽 스케줄) */
+    @PostMapping("/archive/run")
+    public ResponseEntity<RentalArchiveService.ArchiveResult> runArchive() {
+        return ResponseEntity.ok(rentalArchiveService.archive(LocalDate.now()));
+    }
 }
@@ -2,6 +2,7 @@ package com.rentex.rental.controller;
 
 import com.rentex.rental.domain.RentalStatus;
 import com.rentex.rental.dto.*;
+import com.rentex.rental.service.RentalCalendarService;
 import com.rentex.rental.service.RentalService;
 import com.rentex.user.domain.User;
 import com.rentex.user.service.UserService;
@@ -11,11 +12,13 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.security.Principal;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 
 @RestController
@@ -24,6 +27,7 @@ import java.util.List;
 public class RentalController {
 
     private final RentalService rentalService;
+    private final RentalCalendarService rentalCalendarService;
     private final UserService userService;
 
     /** 대여 가능 여부 확인 API */
@@ -37,6 +41,19 @@ public class RentalController {
         return ResponseEntity.ok(dto);
     }
 
+    /** 기간 내 대여 가능한 장비 검색 API */
+    @GetMapping("/items/available")
+    public ResponseEntity<List<AvailableItemDto>> searchAvailableItems(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long subCategoryId,
+            @RequestParam(defaultValue = "1") int quantity
+    ) {
+        return ResponseEntity.ok(rentalService.searchAvailableItems(
+                startDate, endDate, categoryId, subCategoryId, quantity));
+    }
+
     /** 대여 요청 + 결제 (USER, ADMIN 가능) */
     @PostMapping("/request")
     public ResponseEntity<RentalPayResponseDto> requestAndPay(
@@ -135,6 +152,50 @@ public class RentalController {
         return ResponseEntity.ok().build();
     }
 
+    /** 일괄 승인 (PARTNER, ADMIN 가능) */
+    @PatchMapping("/bulk/approve")
+    public ResponseEntity<BulkRentalActionResponseDto> bulkApproveRentals(
+            @RequestBody BulkRentalActionRequestDto dto,
+            Principal principal
+    ) {
+        Long userId = Long.parseLong(principal.getName());
+        User user = userService.getUserById(userId);
+        return ResponseEntity.ok(rentalService.bulkApproveRentals(dto.rentalIds(), user));
+    }
+
+    /** 일괄 거절 (PARTNER, ADMIN 가능) */
+    @PatchMapping("/bulk/reject")
+    public ResponseEntity<BulkRentalActionResponseDto> bulkRejectRentals(
+            @RequestBody BulkRentalActionRequestDto dto,
+            Principal principal
+    ) {
+        Long userId = Long.parseLong(principal.getName());
+        User user = userService.getUserById(userId);
+        return ResponseEntity.ok(rentalService.bulkRejectRentals(dto.rentalIds(), user, dto.reason()));
+    }
+
+    /** 일괄 배송 처리 (PARTNER, ADMIN 가능) */
+    @PatchMapping("/bulk/ship")
+    public ResponseEntity<BulkRentalActionResponseDto> bulkShipRentals(
+            @RequestBody BulkRentalActionRequestDto dto,
+            Principal principal
+    ) {
+        Long userId = Long.parseLong(principal.getName());
+        User user = userService.getUserById(userId);
+        return ResponseEntity.ok(rentalService.bulkShipRentals(dto.rentalIds(), user));
+    }
+
+    /** 일괄 반납 완료 처리 (PARTNER, ADMIN 가능) */
+    @PatchMapping("/bulk/return")
+    public ResponseEntity<BulkRentalActionResponseDto> bulkReturnRentals(
+            @RequestBody BulkRentalActionRequestDto dto,
+            Principal principal
+    ) {
+        Long userId = Long.parseLong(principal.getName());
+        User user = userService.getUserById(userId);
+        return ResponseEntity.ok(rentalService.bulkReturnRentals(dto.rentalIds(), user));
+    }
+
     /** 내 대여 목록 조회 */
     @GetMapping("/me")
     public ResponseEntity<Page<RentalResponseDto>> getMyRentals(
@@ -148,6 +209,20 @@ public class RentalController {
         return ResponseEntity.ok(result);
     }
 
+    /** 내 대여 목록 조회 (커서 기반, 깊은 페이지도 일정한 속도) */
+    @GetMapping("/me/cursor")
+    public ResponseEntity<RentalCursorSliceDto> getMyRentalsByCursor(
+            Principal principal,
+            @RequestParam(required = false) RentalStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        Long userId = Long.parseLong(principal.getName());
+        User user = userService.getUserById(userId);
+        return ResponseEntity.ok(rentalService.getMyRentalsByCursor(user, status, cursor, size, withTotal));
+    }
+
     /** 대여 상세 조회 (USER, ADMIN 공용) */
     @GetMapping("/{id}")
     public ResponseEntity<RentalResponseDto> getRentalDetail(
@@ -188,6 +263,37 @@ public class RentalController {
         return ResponseEntity.ok(result);
     }
 
+    /** 파트너 전용: 본인 소속 아이템의 대여 요청 조회 (커서 기반) */
+    @GetMapping("/partner/requests/cursor")
+    public ResponseEntity<RentalCursorSliceDto> getPartnerRequestsByCursor(
+            Principal principal,
+            @RequestParam(required = false) RentalStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        Long userId = Long.parseLong(principal.getName());
+        User partner = userService.getUserById(userId);
+        return ResponseEntity.ok(
+                rentalService.getPartnerRentalRequestsByCursor(partner, status, cursor, size, withTotal));
+    }
+
+    /** 파트너 전용: 월간 점유 캘린더 (장비 × 일자 수량, 기본 이번 달) */
+    @GetMapping("/partner/calendar")
+    public ResponseEntity<PartnerOccupancyCalendarDto> getPartnerCalendar(
+            Principal principal,
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) Integer month
+    ) {
+        Long userId = Long.parseLong(principal.getName());
+        User partner = userService.getUserById(userId);
+        if (!"PARTNER".equals(partner.getRole())) {
+            throw new AccessDeniedException("파트너 권한이 필요합니다.");
+        }
+        YearMonth ym = (year != null && month != null) ? YearMonth.of(year, month) : YearMonth.now();
+        return ResponseEntity.ok(rentalCalendarService.getMonthlyCalendar(partner.getId(), ym));
+    }
+
     /** 파트너 전용: 대여 상세 조회 */
     @GetMapping("/partner/{id}")
     public ResponseEntity<RentalResponseDto> getPartnerRentalDetail(
@@ -212,4 +318,19 @@ public class RentalController {
         return ResponseEntity.ok(rentals);
     }
 
+    /** 파트너 및 관리자용: 대여 상태 전체 보기 (커서 기반) */
+    @GetMapping("/partner/manage/cursor")
+    public ResponseEntity<RentalCursorSliceDto> getAllPartnerRentalsByCursor(
+            Principal principal,
+            @RequestParam(required = false) RentalStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        Long userId = Long.parseLong(principal.getName());
+        User loginUser = userService.getUserById(userId);
+        return ResponseEntity.ok(
+                rentalService.getAllPartnerRentalsByCursor(loginUser, status, cursor, size, withTotal));
+    }
+
 }
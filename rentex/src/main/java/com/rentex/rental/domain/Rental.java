@@ -5,6 +5,7 @@ import com.rentex.item.domain.Item;
 import com.rentex.user.domain.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
@@ -18,8 +19,22 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+// 목록 조회용: RentalResponseDto 가 쓰는 연관(user, item, item.category, item.partner)을 한 번에 조인
+@NamedEntityGraph(
+        name = Rental.LIST_VIEW_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("user"),
+                @NamedAttributeNode(value = "item", subgraph = "item")
+        },
+        subgraphs = @NamedSubgraph(
+                name = "item",
+                attributeNodes = {@NamedAttributeNode("category"), @NamedAttributeNode("partner")}
+        )
+)
 public class Rental extends BaseTimeEntity {
 
+    public static final String LIST_VIEW_GRAPH = "Rental.listView";
+
     // 대여 ID (기본 키)
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -69,16 +84,29 @@ public class Rental extends BaseTimeEntity {
     @OnDelete(action = OnDeleteAction.CASCADE)   // 렌탈 삭제 시 히스토리도 함께 삭제
     private List<RentalHistory> histories = new ArrayList<>();
 
+    // 낙관적 락 버전 (동시 상태 전이 충돌 감지)
+    @Version
+    @ColumnDefault("0")
+    private Long version;
+
     // 연체 여부
     @Builder.Default
     @Column(nullable = false)
     private boolean isOverdue = false;
 
+    // 반납 안내를 보낸 시각 (재기동 후 중복 발송 방지)
+    private LocalDateTime returnRemindedAt;
+
     // 연체 처리 메서드
     public void markAsOverdue() {
         this.isOverdue = true;
     }
 
+    // 반납 안내 발송 기록
+    public void markReturnReminded() {
+        this.returnRemindedAt = LocalDateTime.now();
+    }
+
     // 엔티티 저장 전, 상태가 없으면 기본값으로 REQUESTED 설정
     @PrePersist
     public void prePersist() {
@@ -0,0 +1,88 @@
+package com.rentex.rental.domain;
+
+import com.rentex.item.domain.Item;
+import com.rentex.user.domain.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 보관(아카이브)된 종료 대여 (rental_archive)
+ * - RentalArchiveService 가 rental 의 행을 id 그대로 옮겨 담는다 (INSERT ... SELECT). 애플리케이션에서는 읽기 전용.
+ * - 컬럼은 rental 과 같고 archived_at 만 추가된다.
+ */
+@Entity
+@Immutable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "rental_archive", indexes = {
+        @Index(name = "idx_rental_archive_user_created_id", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_rental_archive_created_id", columnList = "created_at, id")
+})
+@NamedEntityGraph(
+        name = RentalArchive.LIST_VIEW_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("user"),
+                @NamedAttributeNode(value = "item", subgraph = "item")
+        },
+        subgraphs = @NamedSubgraph(
+                name = "item",
+                attributeNodes = {@NamedAttributeNode("category"), @NamedAttributeNode("partner")}
+        )
+)
+public class RentalArchive {
+
+    public static final String LIST_VIEW_GRAPH = "RentalArchive.listView";
+
+    @Id
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Item item;
+
+    @Enumerated(EnumType.STRING)
+    private RentalStatus status;
+
+    private int quantity;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    private LocalDateTime rentedAt;
+
+    private LocalDateTime returnedAt;
+
+    private boolean receivedByPartner;
+
+    private LocalDateTime partnerReceivedAt;
+
+    private boolean returnCheckedByPartner;
+
+    private LocalDateTime partnerReturnCheckedAt;
+
+    private Long version;
+
+    @Column(nullable = false)
+    private boolean isOverdue;
+
+    private LocalDateTime returnRemindedAt;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // 보관 시각
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
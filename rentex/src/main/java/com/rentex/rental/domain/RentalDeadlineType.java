@@ -0,0 +1,8 @@
+package com.rentex.rental.domain;
+
+/** 대여 기한 타이머 종류 */
+public enum RentalDeadlineType {
+    AUTO_CANCEL,      // 시작일이 지나도록 승인되지 않은 요청 자동 취소 (startDate 다음날 0시)
+    RETURN_REMINDER,  // 반납일 안내 (endDate 당일 설정 시각)
+    OVERDUE           // 연체 처리 (endDate 다음날 0시)
+}
@@ -1,6 +1,7 @@
 package com.rentex.rental.domain;
 
 import com.rentex.global.domain.BaseTimeEntity;
+import com.rentex.rental.dto.RentalHistoryEntry;
 import com.rentex.user.domain.User;
 import jakarta.persistence.*;
 import lombok.*;
@@ -14,9 +15,10 @@ import java.time.LocalDateTime;
 @Builder
 public class RentalHistory extends BaseTimeEntity {
 
-    // 고유 ID (기본 키)
+    // 고유 ID (기본 키) - 시퀀스 pooled 할당(50개 단위)으로 INSERT 를 flush 시점에 배치 전송
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "rental_history_seq_gen")
+    @SequenceGenerator(name = "rental_history_seq_gen", sequenceName = "rental_history_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -49,10 +51,16 @@ public class RentalHistory extends BaseTimeEntity {
     @JoinColumn(name = "actor_user_id")
     private User actorUser;
 
-    // 엔티티 저장 전 현재 시각을 자동으로 기록
+    // 비동기 기록기(RentalHistoryWriter)가 부여한 멱등 키
+    @Column(name = "entry_key", length = 36, unique = true)
+    private String entryKey;
+
+    // 엔티티 저장 전 현재 시각을 자동으로 기록 (비동기 기록분은 전이 시각 유지)
     @PrePersist
     public void prePersist() {
-        this.changedAt = LocalDateTime.now();
+        if (this.changedAt == null) {
+            this.changedAt = LocalDateTime.now();
+        }
     }
 
     // 정적 팩토리 메서드: RentalHistory 객체 생성용
@@ -73,4 +81,18 @@ public class RentalHistory extends BaseTimeEntity {
                 .actorUser(actorUser)   // 닉네임/파트너명 연결
                 .build();
     }
+
+    // 비동기 기록분 → 엔티티 (rental / actorUser 는 참조 프록시)
+    public static RentalHistory fromEntry(RentalHistoryEntry entry, Rental rental, User actorUser) {
+        return RentalHistory.builder()
+                .rental(rental)
+                .fromStatus(entry.fromStatus())
+                .toStatus(entry.toStatus())
+                .actor(entry.actor())
+                .description(entry.description())
+                .actorUser(actorUser)
+                .changedAt(entry.changedAt())
+                .entryKey(entry.entryKey())
+                .build();
+    }
 }
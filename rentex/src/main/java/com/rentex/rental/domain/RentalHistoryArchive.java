@@ -0,0 +1,63 @@
+package com.rentex.rental.domain;
+
+import com.rentex.user.domain.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관(아카이브)된 대여 이력 (rental_history_archive)
+ * - 대여가 rental_archive 로 옮겨질 때 같은 트랜잭션에서 함께 옮겨진다. 애플리케이션에서는 읽기 전용.
+ */
+@Entity
+@Immutable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "rental_history_archive", indexes = {
+        @Index(name = "idx_rental_history_archive_rental", columnList = "rental_id, created_at")
+})
+public class RentalHistoryArchive {
+
+    @Id
+    private Long id;
+
+    // rental_archive.id (보관 테이블끼리는 id 로만 연결)
+    @Column(name = "rental_id", nullable = false)
+    private Long rentalId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30)
+    private RentalStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30)
+    private RentalStatus toStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private ActionActor actor;
+
+    private String description;
+
+    private LocalDateTime changedAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "actor_user_id")
+    private User actorUser;
+
+    @Column(name = "entry_key", length = 36)
+    private String entryKey;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
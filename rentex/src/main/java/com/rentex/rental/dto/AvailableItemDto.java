@@ -0,0 +1,26 @@
+package com.rentex.rental.dto;
+
+import com.rentex.item.domain.Item;
+
+/** 기간 검색 결과 - 해당 기간 동안 빌릴 수 있는 장비 */
+public record AvailableItemDto(
+        Long itemId,
+        String name,
+        String thumbnailUrl,
+        int dailyPrice,
+        Long categoryId,
+        Long subCategoryId,
+        int availableQuantity   // 기간 중 가장 붐비는 날 기준 남은 수량
+) {
+    public static AvailableItemDto of(Item item, int availableQuantity) {
+        return new AvailableItemDto(
+                item.getId(),
+                item.getName(),
+                item.getThumbnailUrl(),
+                item.getDailyPrice(),
+                item.getCategory() != null ? item.getCategory().getId() : null,
+                item.getSubCategory() != null ? item.getSubCategory().getId() : null,
+                availableQuantity
+        );
+    }
+}
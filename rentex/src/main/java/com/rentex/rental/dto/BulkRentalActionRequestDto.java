@@ -0,0 +1,9 @@
+package com.rentex.rental.dto;
+
+import java.util.List;
+
+/** 일괄 처리 요청 (reason 은 거절 시에만 사용) */
+public record BulkRentalActionRequestDto(
+        List<Long> rentalIds,
+        String reason
+) { }
@@ -0,0 +1,33 @@
+package com.rentex.rental.dto;
+
+import com.rentex.rental.domain.RentalStatus;
+
+import java.util.List;
+
+/** 일괄 처리 결과 (요청한 대여 ID 순서대로 건별 결과) */
+public record BulkRentalActionResponseDto(
+        int successCount,
+        int failureCount,
+        List<Result> results
+) {
+    public static BulkRentalActionResponseDto of(List<Result> results) {
+        int success = (int) results.stream().filter(Result::success).count();
+        return new BulkRentalActionResponseDto(success, results.size() - success, results);
+    }
+
+    public record Result(
+            Long rentalId,
+            boolean success,
+            RentalStatus status,   // 성공 시 변경된 상태
+            String code,           // 실패 사유 코드 (GlobalExceptionHandler 코드와 동일)
+            String message
+    ) {
+        public static Result success(Long rentalId, RentalStatus status) {
+            return new Result(rentalId, true, status, null, null);
+        }
+
+        public static Result failure(Long rentalId, String code, String message) {
+            return new Result(rentalId, false, null, code, message);
+        }
+    }
+}
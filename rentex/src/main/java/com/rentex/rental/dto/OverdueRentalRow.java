@@ -0,0 +1,7 @@
+package com.rentex.rental.dto;
+
+/** 연체 감지 배치용 프로젝션 (대여 id + 대여자 id) */
+public record OverdueRentalRow(
+        Long rentalId,
+        Long userId
+) {}
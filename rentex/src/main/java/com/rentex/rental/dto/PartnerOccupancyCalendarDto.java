@@ -0,0 +1,25 @@
+package com.rentex.rental.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 파트너 월간 점유 캘린더 (장비 × 일자)
+ * - booked[d] / requested[d] 는 startDate + d 일의 수량
+ */
+public record PartnerOccupancyCalendarDto(
+        Long partnerId,
+        int year,
+        int month,
+        LocalDate startDate,
+        LocalDate endDate,
+        List<ItemRow> items
+) {
+    public record ItemRow(
+            Long itemId,
+            String itemName,
+            int stockQuantity,
+            int[] booked,      // 승인 이후(APPROVED ~ RETURNED) 나가 있거나 나갈 수량
+            int[] requested    // 승인 대기(REQUESTED) 수량
+    ) {}
+}
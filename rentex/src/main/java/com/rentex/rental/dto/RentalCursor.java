@@ -0,0 +1,38 @@
+package com.rentex.rental.dto;
+
+import com.rentex.global.exception.CustomException;
+import com.rentex.global.exception.ErrorCode;
+import com.rentex.rental.domain.Rental;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 대여 목록 커서 (createdAt DESC, id DESC 기준 마지막 행의 위치)
+ * - 클라이언트에는 Base64(URL-safe) 문자열로만 노출한다.
+ */
+public record RentalCursor(LocalDateTime createdAt, Long id) {
+
+    public static RentalCursor of(Rental last) {
+        return new RentalCursor(last.getCreatedAt(), last.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** null / 빈 문자열이면 첫 페이지 */
+    public static RentalCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            return new RentalCursor(LocalDateTime.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
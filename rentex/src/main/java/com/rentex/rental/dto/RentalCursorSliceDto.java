@@ -0,0 +1,12 @@
+package com.rentex.rental.dto;
+
+import java.util.List;
+
+/** 커서 기반 대여 목록 (COUNT 없이 다음 페이지 존재 여부만 판단) */
+public record RentalCursorSliceDto(
+        List<RentalResponseDto> content,
+        int size,
+        boolean hasNext,
+        String nextCursor,      // 다음 페이지 요청 시 그대로 전달 (없으면 null)
+        Long totalCount         // withTotal=true 일 때만 (캐시된 값일 수 있음)
+) { }
@@ -0,0 +1,15 @@
+package com.rentex.rental.dto;
+
+import com.rentex.rental.domain.RentalStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/** 기한 타이머 적재용 프로젝션 */
+public record RentalDeadlineRow(
+        Long rentalId,
+        RentalStatus status,
+        LocalDate startDate,
+        LocalDate endDate,
+        LocalDateTime returnRemindedAt
+) {}
@@ -0,0 +1,19 @@
+package com.rentex.rental.dto;
+
+import com.rentex.rental.domain.ActionActor;
+import com.rentex.rental.domain.RentalStatus;
+
+import java.time.LocalDateTime;
+
+/** 아직 DB 에 반영되지 않은 대여 이력 (RentalHistoryWriter 로그/버퍼용) */
+public record RentalHistoryEntry(
+        String entryKey,     // 멱등 키 (재시작 후 재적재 시 중복 방지)
+        Long rentalId,
+        RentalStatus fromStatus,
+        RentalStatus toStatus,
+        ActionActor actor,
+        String description,
+        Long actorUserId,
+        String actorName,    // 기록 시점의 수행자 닉네임
+        LocalDateTime changedAt
+) {}
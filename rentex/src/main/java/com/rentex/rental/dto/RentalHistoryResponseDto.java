@@ -1,7 +1,9 @@
 package com.rentex.rental.dto;
 
 import com.rentex.rental.domain.ActionActor;
+import com.rentex.rental.domain.RentalArchive;
 import com.rentex.rental.domain.RentalHistory;
+import com.rentex.rental.domain.RentalHistoryArchive;
 import com.rentex.rental.domain.RentalStatus;
 
 import java.time.LocalDateTime;
@@ -43,4 +45,49 @@ public record RentalHistoryResponseDto(
                 history.getCreatedAt()
         );
     }
+
+    // 보관 이동된 이력 (fallback 표시 이름은 보관된 대여 기준)
+    public static RentalHistoryResponseDto from(RentalHistoryArchive history, RentalArchive rental) {
+        String actorName;
+
+        if (history.getActorUser() != null) {
+            actorName = history.getActorUser().getNickname();
+        } else {
+            switch (history.getActor()) {
+                case USER -> actorName = rental.getUser() != null
+                        ? rental.getUser().getNickname()
+                        : "(알 수 없음)";
+                case PARTNER -> actorName = rental.getItem().getPartner().getName();
+                case ADMIN -> actorName = "관리자";
+                default -> actorName = "(알 수 없음)";
+            }
+        }
+
+        return new RentalHistoryResponseDto(
+                history.getFromStatus(),
+                history.getToStatus(),
+                history.getFromStatus() != null ? history.getFromStatus().getLabel() : null,
+                history.getToStatus() != null ? history.getToStatus().getLabel() : null,
+                actorName,
+                history.getDescription(),
+                history.getCreatedAt()
+        );
+    }
+
+    // 아직 DB 에 반영되지 않은 이력
+    public static RentalHistoryResponseDto from(RentalHistoryEntry entry) {
+        String actorName = entry.actorName() != null
+                ? entry.actorName()
+                : (entry.actor() == ActionActor.ADMIN ? "관리자" : "(알 수 없음)");
+
+        return new RentalHistoryResponseDto(
+                entry.fromStatus(),
+                entry.toStatus(),
+                entry.fromStatus() != null ? entry.fromStatus().getLabel() : null,
+                entry.toStatus() != null ? entry.toStatus().getLabel() : null,
+                actorName,
+                entry.description(),
+                entry.changedAt()
+        );
+    }
 }
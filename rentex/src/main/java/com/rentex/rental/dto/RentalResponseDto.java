@@ -1,8 +1,11 @@
 package com.rentex.rental.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.rentex.item.domain.Item;
 import com.rentex.rental.domain.Rental;
+import com.rentex.rental.domain.RentalArchive;
 import com.rentex.rental.domain.RentalStatus;
+import com.rentex.user.domain.User;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -30,42 +33,57 @@ public record RentalResponseDto(
         String partnerName     // ✅ 업체명
 ) {
     public static RentalResponseDto from(Rental rental) {
+        return of(rental.getId(), rental.getUser(), rental.getItem(), rental.getQuantity(), rental.getStatus(),
+                rental.getStartDate(), rental.getEndDate(), rental.getRentedAt(), rental.getReturnedAt(),
+                rental.getCreatedAt());
+    }
+
+    // 보관 이동된 대여 (종료 상태이므로 D-Day 없음)
+    public static RentalResponseDto from(RentalArchive rental) {
+        return of(rental.getId(), rental.getUser(), rental.getItem(), rental.getQuantity(), rental.getStatus(),
+                rental.getStartDate(), rental.getEndDate(), rental.getRentedAt(), rental.getReturnedAt(),
+                rental.getCreatedAt());
+    }
+
+    private static RentalResponseDto of(Long id, User user, Item item, int quantity, RentalStatus status,
+                                        LocalDate startDate, LocalDate endDate,
+                                        LocalDateTime rentedAt, LocalDateTime returnedAt, LocalDateTime createdAt) {
         // 기본값
         int dDay = -1;
 
         // 실제 대여중(RECEIVED)일 때만 D-Day 계산
-        if (rental.getStatus() == RentalStatus.RECEIVED) {
-            dDay = Period.between(LocalDate.now(), rental.getEndDate()).getDays();
+        if (status == RentalStatus.RECEIVED) {
+            dDay = Period.between(LocalDate.now(), endDate).getDays();
         }
 
-        String name = rental.getUser() != null ? rental.getUser().getName() : "(알 수 없음)";
-        String nickname = rental.getUser() != null ? rental.getUser().getNickname() : "(알 수 없음)";
+        String name = user != null ? user.getName() : "(알 수 없음)";
+        String nickname = user != null ? user.getNickname() : "(알 수 없음)";
 
         // 대여일수 (시작~끝 포함, 최소 1일)
-        int rentalDays = Period.between(rental.getStartDate(), rental.getEndDate()).getDays() + 1;
+        int rentalDays = Period.between(startDate, endDate).getDays() + 1;
 
         // 총 대여료 계산 (하루 단가 × 수량 × 일수)
-        int totalFee = rental.getItem().getDailyPrice() * rental.getQuantity() * rentalDays;
+        int totalFee = item.getDailyPrice() * quantity * rentalDays;
 
         return new RentalResponseDto(
-                rental.getId(),
-                rental.getItem().getName(),
-                rental.getQuantity(),
-                rental.getStatus(),
-                rental.getStatus().getLabel(),
-                rental.getStatus().getBadgeColor(),
-                rental.getStartDate(),
-                rental.getEndDate(),
-                rental.getRentedAt(),
-                rental.getReturnedAt(),
+                id,
+                item.getName(),
+                quantity,
+                status,
+                status.getLabel(),
+                status.getBadgeColor(),
+                startDate,
+                endDate,
+                rentedAt,
+                returnedAt,
                 dDay,
-                rental.getCreatedAt(),
+                createdAt,
                 name,       // 본명
                 nickname,   // 닉네임
-                rental.getItem().getThumbnailUrl(),
+                item.getThumbnailUrl(),
                 totalFee,
-                rental.getItem().getCategory() != null ? rental.getItem().getCategory().getName() : null, // ✅ 카테고리
-                rental.getItem().getPartner() != null ? rental.getItem().getPartner().getName() : null   // ✅ 업체명
+                item.getCategory() != null ? item.getCategory().getName() : null, // ✅ 카테고리
+                item.getPartner() != null ? item.getPartner().getName() : null   // ✅ 업체명
         );
     }
 }
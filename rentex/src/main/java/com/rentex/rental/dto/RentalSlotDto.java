@@ -0,0 +1,15 @@
+package com.rentex.rental.dto;
+
+import com.rentex.rental.domain.RentalStatus;
+
+import java.time.LocalDate;
+
+/** 대여 기간 점유 정보 (가용성 인덱스 적재용 프로젝션) */
+public record RentalSlotDto(
+        Long rentalId,
+        Long itemId,
+        LocalDate startDate,
+        LocalDate endDate,
+        int quantity,
+        RentalStatus status
+) {}
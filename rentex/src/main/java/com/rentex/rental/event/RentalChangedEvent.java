@@ -0,0 +1,30 @@
+package com.rentex.rental.event;
+
+import com.rentex.rental.domain.Rental;
+import com.rentex.rental.domain.RentalStatus;
+
+import java.time.LocalDate;
+
+/**
+ * 대여 생성/상태 전이 이벤트
+ * RentalService 에서 발행하며, 트랜잭션 커밋 이후 인메모리 인덱스 등이 구독한다.
+ */
+public record RentalChangedEvent(
+        Long rentalId,
+        Long itemId,
+        LocalDate startDate,
+        LocalDate endDate,
+        int quantity,
+        RentalStatus status
+) {
+    public static RentalChangedEvent from(Rental rental) {
+        return new RentalChangedEvent(
+                rental.getId(),
+                rental.getItem().getId(),
+                rental.getStartDate(),
+                rental.getEndDate(),
+                rental.getQuantity(),
+                rental.getStatus()
+        );
+    }
+}
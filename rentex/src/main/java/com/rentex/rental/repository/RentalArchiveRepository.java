@@ -0,0 +1,135 @@
+package com.rentex.rental.repository;
+
+import com.rentex.category.dto.SubCategoryRevenueDTO;
+import com.rentex.item.dto.ItemRentalCountDTO;
+import com.rentex.rental.domain.RentalArchive;
+import com.rentex.rental.domain.RentalStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 보관된 종료 대여 조회 + 보관 이동 (rental → rental_archive)
+ * 커서 쿼리는 RentalRepository 와 같은 조건·정렬을 쓰므로 두 결과를 그대로 병합할 수 있다.
+ * (OFFSET 페이지는 RentalListRepository 가 두 테이블을 SQL 에서 합친다)
+ */
+@Repository
+public interface RentalArchiveRepository extends JpaRepository<RentalArchive, Long> {
+
+    // === 목록 (RentalRepository 와 같은 모양, 건수는 count* 로 따로 구하므로 Slice) ===
+
+    @EntityGraph(RentalArchive.LIST_VIEW_GRAPH)
+    List<RentalArchive> findByUserId(Long userId);
+
+    /** 통합 목록 페이지(RentalListRepository)로 정해진 행만 목록 모양으로 조회 */
+    @EntityGraph(RentalArchive.LIST_VIEW_GRAPH)
+    @Query("SELECT r FROM RentalArchive r WHERE r.id IN :ids")
+    List<RentalArchive> findAllForListByIdIn(@Param("ids") Collection<Long> ids);
+
+    @EntityGraph(RentalArchive.LIST_VIEW_GRAPH)
+    @Query("""
+        SELECT r FROM RentalArchive r
+        WHERE r.user.id = :userId
+          AND (:status IS NULL OR r.status = :status)
+          AND (:cursorAt IS NULL OR r.createdAt < :cursorAt
+               OR (r.createdAt = :cursorAt AND r.id < :cursorId))
+        ORDER BY r.createdAt DESC, r.id DESC
+    """)
+    Slice<RentalArchive> findSliceByUserId(@Param("userId") Long userId,
+                                           @Param("status") RentalStatus status,
+                                           @Param("cursorAt") LocalDateTime cursorAt,
+                                           @Param("cursorId") Long cursorId,
+                                           Pageable pageable);
+
+    @EntityGraph(RentalArchive.LIST_VIEW_GRAPH)
+    @Query("""
+        SELECT r FROM RentalArchive r
+        WHERE (:status IS NULL OR r.status = :status)
+          AND (:cursorAt IS NULL OR r.createdAt < :cursorAt
+               OR (r.createdAt = :cursorAt AND r.id < :cursorId))
+        ORDER BY r.createdAt DESC, r.id DESC
+    """)
+    Slice<RentalArchive> findSliceAll(@Param("status") RentalStatus status,
+                                      @Param("cursorAt") LocalDateTime cursorAt,
+                                      @Param("cursorId") Long cursorId,
+                                      Pageable pageable);
+
+    /** 특정 파트너의 해당 월 겹침 보관 대여 (월간 점유 캘린더용) */
+    @Query("""
+        select r
+        from RentalArchive r
+        join fetch r.item i
+        join fetch i.partner p
+        where p.id = :partnerId
+          and r.startDate <= :monthEnd and r.endDate >= :monthStart
+    """)
+    List<RentalArchive> findAllByPartnerOverlapping(@Param("partnerId") Long partnerId,
+                                                    @Param("monthStart") LocalDate monthStart,
+                                                    @Param("monthEnd") LocalDate monthEnd);
+
+    // === 건수 / 통계 ===
+
+    long countByUserId(Long userId);
+
+    long countByUserIdAndStatus(Long userId, RentalStatus status);
+
+    long countByStatus(RentalStatus status);
+
+    long countByIsOverdueTrue();
+
+    @Query("SELECT new com.rentex.category.dto.SubCategoryRevenueDTO(" +
+            "i.subCategory.name, SUM(i.dailyPrice * r.quantity), COUNT(r)) " +
+            "FROM RentalArchive r " +
+            "JOIN r.item i " +
+            "GROUP BY i.subCategory.name")
+    List<SubCategoryRevenueDTO> findSubCategoryRevenue();
+
+    @Query("SELECT new com.rentex.item.dto.ItemRentalCountDTO(r.item.id, COUNT(r)) FROM RentalArchive r GROUP BY r.item.id")
+    List<ItemRentalCountDTO> countRentalsByItem();
+
+    // === 보관 이동 (같은 트랜잭션에서 rental_history → rental 순으로 삭제) ===
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO rental_archive
+            (id, user_id, item_id, status, quantity, start_date, end_date, rented_at, returned_at,
+             received_by_partner, partner_received_at, return_checked_by_partner, partner_return_checked_at,
+             version, is_overdue, return_reminded_at, created_at, updated_at, archived_at)
+        SELECT id, user_id, item_id, status, quantity, start_date, end_date, rented_at, returned_at,
+               received_by_partner, partner_received_at, return_checked_by_partner, partner_return_checked_at,
+               version, is_overdue, return_reminded_at, created_at, updated_at, NOW()
+        FROM rental
+        WHERE id IN (:ids)
+    """, nativeQuery = true)
+    int copyRentals(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO rental_history_archive
+            (id, rental_id, from_status, to_status, actor, description, changed_at, actor_user_id,
+             entry_key, created_at, updated_at, archived_at)
+        SELECT id, rental_id, from_status, to_status, actor, description, changed_at, actor_user_id,
+               entry_key, created_at, updated_at, NOW()
+        FROM rental_history
+        WHERE rental_id IN (:ids)
+    """, nativeQuery = true)
+    int copyHistories(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM rental_history WHERE rental_id IN (:ids)", nativeQuery = true)
+    int deleteHistories(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM rental WHERE id IN (:ids)", nativeQuery = true)
+    int deleteRentals(@Param("ids") Collection<Long> ids);
+}
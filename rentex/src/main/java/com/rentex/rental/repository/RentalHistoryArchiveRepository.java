@@ -0,0 +1,19 @@
+package com.rentex.rental.repository;
+
+import com.rentex.rental.domain.RentalHistoryArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RentalHistoryArchiveRepository extends JpaRepository<RentalHistoryArchive, Long> {
+
+    @Query("select h from RentalHistoryArchive h " +
+            "left join fetch h.actorUser " +
+            "where h.rentalId = :rentalId " +
+            "order by h.createdAt asc")
+    List<RentalHistoryArchive> findByRentalIdOrderByCreatedAtAsc(@Param("rentalId") Long rentalId);
+}
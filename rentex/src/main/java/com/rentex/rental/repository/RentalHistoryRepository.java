@@ -11,6 +11,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -35,5 +36,9 @@ public interface RentalHistoryRepository extends JpaRepository<RentalHistory, Lo
     // 최근 활동 (동적 limit 지원하려면 Pageable 사용)
     Page<RentalHistory> findByOrderByCreatedAtDesc(Pageable pageable);
 
+    /** 이미 저장된 비동기 기록분의 멱등 키 */
+    @Query("select rh.entryKey from RentalHistory rh where rh.entryKey in :keys")
+    List<String> findEntryKeysIn(@Param("keys") Collection<String> keys);
+
 
 }
@@ -0,0 +1,107 @@
+package com.rentex.rental.repository;
+
+import com.rentex.global.exception.CustomException;
+import com.rentex.global.exception.ErrorCode;
+import com.rentex.rental.domain.RentalStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 운영(rental) + 보관(rental_archive) 통합 목록의 페이지 결정 (OFFSET 페이지용)
+ * - 어떤 행이 이 페이지에 들어가는지는 DB 에서 정렬 키만으로 정하고, id 와 출처만 돌려준다.
+ *   (행 내용은 호출 측이 해당 id 만 엔티티 그래프로 읽는다)
+ * - rental_all 뷰는 UNION ALL 이라 통째로 임시 테이블이 되므로, 테이블마다 같은 정렬로
+ *   (offset + size) 건까지만 인덱스로 잘라 합친 뒤 바깥에서 다시 정렬·OFFSET 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RentalListRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    /** 페이지에 들어갈 행 (archived = 보관 테이블 행) */
+    public record Ref(Long id, boolean archived) { }
+
+    // 정렬 가능한 속성 → 컬럼 (RentalResponseDto 와 같은 이름)
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "id",
+            "createdAt", "created_at",
+            "startDate", "start_date",
+            "endDate", "end_date",
+            "rentedAt", "rented_at",
+            "returnedAt", "returned_at",
+            "quantity", "quantity",
+            "status", "status");
+
+    /** 정렬·페이지 순서대로 id / 출처 (동률은 id 내림차순) */
+    public List<Ref> findPage(Long userId, RentalStatus status, Pageable pageable) {
+        Set<String> columns = new LinkedHashSet<>();
+        columns.add("id");
+        List<String> order = new ArrayList<>();
+        for (Sort.Order o : pageable.getSort()) {
+            String column = SORT_COLUMNS.get(o.getProperty());
+            if (column == null) {
+                throw new CustomException(ErrorCode.INVALID_SORT);
+            }
+            columns.add(column);
+            order.add(column + (o.isDescending() ? " DESC" : " ASC"));
+        }
+        if (pageable.getSort().getOrderFor("id") == null) {
+            order.add("id DESC");
+        }
+
+        String select = String.join(", ", columns);
+        String orderBy = " ORDER BY " + String.join(", ", order);
+        String where = where(userId, status);
+        String branchLimit = pageable.isPaged() ? " LIMIT :window" : "";
+        String pageLimit = pageable.isPaged() ? " LIMIT :size OFFSET :offset" : "";
+
+        String sql = "SELECT id, archived FROM ("
+                + "(SELECT " + select + ", 0 AS archived FROM rental" + where + orderBy + branchLimit + ")"
+                + " UNION ALL "
+                + "(SELECT " + select + ", 1 AS archived FROM rental_archive" + where + orderBy + branchLimit + ")"
+                + ") u" + orderBy + pageLimit;
+
+        MapSqlParameterSource params = params(userId, status);
+        if (pageable.isPaged()) {
+            params.addValue("window", pageable.getOffset() + pageable.getPageSize())
+                    .addValue("size", pageable.getPageSize())
+                    .addValue("offset", pageable.getOffset());
+        }
+        return jdbc.query(sql, params, (rs, i) -> new Ref(rs.getLong("id"), rs.getInt("archived") == 1));
+    }
+
+    /** 통합 건수 */
+    public long count(Long userId, RentalStatus status) {
+        String where = where(userId, status);
+        String sql = "SELECT (SELECT COUNT(*) FROM rental" + where + ")"
+                + " + (SELECT COUNT(*) FROM rental_archive" + where + ")";
+        Long total = jdbc.queryForObject(sql, params(userId, status), Long.class);
+        return total != null ? total : 0L;
+    }
+
+    // === 내부 ===
+
+    private static String where(Long userId, RentalStatus status) {
+        List<String> conditions = new ArrayList<>();
+        if (userId != null) conditions.add("user_id = :userId");
+        if (status != null) conditions.add("status = :status");
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    private static MapSqlParameterSource params(Long userId, RentalStatus status) {
+        return new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("status", status != null ? status.name() : null);
+    }
+}
@@ -3,18 +3,28 @@ package com.rentex.rental.repository;
 import com.rentex.category.dto.SubCategoryRevenueDTO;
 import com.rentex.dashboard.dto.TopRentedItemDTO;
 import com.rentex.item.domain.Item;
+import com.rentex.item.dto.ItemRentalCountDTO;
 import com.rentex.rental.domain.Rental;
 import com.rentex.rental.domain.RentalStatus;
+import com.rentex.rental.dto.OverdueRentalRow;
+import com.rentex.rental.dto.RentalDeadlineRow;
+import com.rentex.rental.dto.RentalSlotDto;
 import com.rentex.user.domain.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -30,16 +40,81 @@ public interface RentalRepository extends JpaRepository<Rental, Long> {
 
     List<Rental> findByUser(User user); // MyPage 조회용
 
+    @EntityGraph(Rental.LIST_VIEW_GRAPH)
     Page<Rental> findByUserId(Long userId, Pageable pageable);
 
+    @EntityGraph(Rental.LIST_VIEW_GRAPH)
     Page<Rental> findByUserIdAndStatus(Long userId, RentalStatus status, Pageable pageable);
 
+    @EntityGraph(Rental.LIST_VIEW_GRAPH)
     Page<Rental> findAllByStatus(RentalStatus status, Pageable pageable);
 
+    @EntityGraph(Rental.LIST_VIEW_GRAPH)
     Page<Rental> findAll(Pageable pageable);  // 전체 상태 조건 없이
 
+    /** 통합 목록 페이지(RentalListRepository)로 정해진 행만 목록 모양으로 조회 */
+    @EntityGraph(Rental.LIST_VIEW_GRAPH)
+    @Query("SELECT r FROM Rental r WHERE r.id IN :ids")
+    List<Rental> findAllForListByIdIn(@Param("ids") Collection<Long> ids);
+
+    long countByUserId(Long userId);
+
+    long countByUserIdAndStatus(Long userId, RentalStatus status);
+
+    long countByItemPartnerId(Long partnerId);
+
+    long countByItemPartnerIdAndStatus(Long partnerId, RentalStatus status);
+
+    // === 커서(keyset) 페이지: (createdAt, id) 내림차순, OFFSET / COUNT 없음 ===
+    // cursorAt 이 null 이면 첫 페이지
+
+    @EntityGraph(Rental.LIST_VIEW_GRAPH)
+    @Query("""
+        SELECT r FROM Rental r
+        WHERE r.user.id = :userId
+          AND (:status IS NULL OR r.status = :status)
+          AND (:cursorAt IS NULL OR r.createdAt < :cursorAt
+               OR (r.createdAt = :cursorAt AND r.id < :cursorId))
+        ORDER BY r.createdAt DESC, r.id DESC
+    """)
+    Slice<Rental> findSliceByUserId(@Param("userId") Long userId,
+                                    @Param("status") RentalStatus status,
+                                    @Param("cursorAt") LocalDateTime cursorAt,
+                                    @Param("cursorId") Long cursorId,
+                                    Pageable pageable);
+
+    @EntityGraph(Rental.LIST_VIEW_GRAPH)
+    @Query("""
+        SELECT r FROM Rental r
+        WHERE (:status IS NULL OR r.status = :status)
+          AND (:cursorAt IS NULL OR r.createdAt < :cursorAt
+               OR (r.createdAt = :cursorAt AND r.id < :cursorId))
+        ORDER BY r.createdAt DESC, r.id DESC
+    """)
+    Slice<Rental> findSliceAll(@Param("status") RentalStatus status,
+                               @Param("cursorAt") LocalDateTime cursorAt,
+                               @Param("cursorId") Long cursorId,
+                               Pageable pageable);
+
+    @EntityGraph(Rental.LIST_VIEW_GRAPH)
+    @Query("""
+        SELECT r FROM Rental r
+        JOIN r.item i
+        WHERE i.partner.id = :partnerId
+          AND (:status IS NULL OR r.status = :status)
+          AND (:cursorAt IS NULL OR r.createdAt < :cursorAt
+               OR (r.createdAt = :cursorAt AND r.id < :cursorId))
+        ORDER BY r.createdAt DESC, r.id DESC
+    """)
+    Slice<Rental> findSliceByPartnerId(@Param("partnerId") Long partnerId,
+                                       @Param("status") RentalStatus status,
+                                       @Param("cursorAt") LocalDateTime cursorAt,
+                                       @Param("cursorId") Long cursorId,
+                                       Pageable pageable);
+
     void deleteByUser(User user);
 
+    @EntityGraph(Rental.LIST_VIEW_GRAPH)
     @Query("SELECT r FROM Rental r WHERE r.user.id = :userId")
     List<Rental> findByUserId(@Param("userId") Long userId);
 
@@ -56,9 +131,116 @@ public interface RentalRepository extends JpaRepository<Rental, Long> {
             @Param("endDate") LocalDate endDate
     );
 
-    /** 연체된 렌탈 조회 (RECEIVED 상태에서 반납기한 초과) */
-    @Query("SELECT r FROM Rental r WHERE r.status = 'RECEIVED' AND r.endDate < :today AND r.isOverdue = false")
-    List<Rental> findOverdueRentals(@Param("today") LocalDate today);
+    /** 가용성 인덱스 적재용: 기간을 점유하는 전체 렌탈 (엔티티 대신 필요한 컬럼만) */
+    @Query("""
+        SELECT new com.rentex.rental.dto.RentalSlotDto(
+            r.id, r.item.id, r.startDate, r.endDate, r.quantity, r.status
+        )
+        FROM Rental r
+        WHERE r.status IN :statuses
+    """)
+    List<RentalSlotDto> findSlotsByStatuses(@Param("statuses") List<RentalStatus> statuses);
+
+    /** 가용성 인덱스 적재용: 특정 아이템의 기간 점유 렌탈 */
+    @Query("""
+        SELECT new com.rentex.rental.dto.RentalSlotDto(
+            r.id, r.item.id, r.startDate, r.endDate, r.quantity, r.status
+        )
+        FROM Rental r
+        WHERE r.item.id = :itemId
+          AND r.status IN :statuses
+    """)
+    List<RentalSlotDto> findSlotsByItemIdAndStatuses(@Param("itemId") Long itemId,
+                                                     @Param("statuses") List<RentalStatus> statuses);
+
+    /** 승인 재고 확인용: 특정 아이템의 기간이 겹치는 렌탈 (인메모리 인덱스가 아닌 DB 기준) */
+    @Query("""
+        SELECT new com.rentex.rental.dto.RentalSlotDto(
+            r.id, r.item.id, r.startDate, r.endDate, r.quantity, r.status
+        )
+        FROM Rental r
+        WHERE r.item.id = :itemId
+          AND r.status IN :statuses
+          AND r.startDate <= :endDate AND r.endDate >= :startDate
+    """)
+    List<RentalSlotDto> findOverlappingSlots(@Param("itemId") Long itemId,
+                                             @Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate,
+                                             @Param("statuses") Collection<RentalStatus> statuses);
+
+    /** 일괄 처리용: 대여와 장비를 한 번에 조회 */
+    @Query("SELECT r FROM Rental r JOIN FETCH r.item WHERE r.id IN :ids")
+    List<Rental> findAllWithItemByIdIn(@Param("ids") Collection<Long> ids);
+
+    /** 주어진 id 중 실제 존재하는 렌탈 id */
+    @Query("SELECT r.id FROM Rental r WHERE r.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 연체 감지 배치용: id 가 afterId 보다 큰 연체 대여를 id 순으로 잠그며 조회 (keyset 청크)
+     * - 이미 isOverdue 인 대여는 제외되므로 중단 후 다시 돌려도 같은 대여를 두 번 처리하지 않는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT new com.rentex.rental.dto.OverdueRentalRow(r.id, r.user.id)
+        FROM Rental r
+        WHERE r.status = 'RECEIVED'
+          AND r.isOverdue = false
+          AND r.endDate < :today
+          AND r.id > :afterId
+        ORDER BY r.id ASC
+    """)
+    List<OverdueRentalRow> lockOverdueChunk(@Param("today") LocalDate today,
+                                            @Param("afterId") Long afterId,
+                                            Pageable pageable);
+
+    /** 연체 타이머 발화용: 지정한 대여 중 아직 연체 처리되지 않은 것만 잠그며 조회 */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT new com.rentex.rental.dto.OverdueRentalRow(r.id, r.user.id)
+        FROM Rental r
+        WHERE r.id IN :ids
+          AND r.status = 'RECEIVED'
+          AND r.isOverdue = false
+          AND r.endDate < :today
+        ORDER BY r.id ASC
+    """)
+    List<OverdueRentalRow> lockOverdueByIds(@Param("today") LocalDate today,
+                                            @Param("ids") Collection<Long> ids);
+
+    /** 기한 타이머 적재용: 승인 대기 요청 + 연체 전 수령 중 대여 */
+    @Query("""
+        SELECT new com.rentex.rental.dto.RentalDeadlineRow(
+                   r.id, r.status, r.startDate, r.endDate, r.returnRemindedAt)
+        FROM Rental r
+        WHERE r.status = 'REQUESTED'
+           OR (r.status = 'RECEIVED' AND r.isOverdue = false)
+    """)
+    List<RentalDeadlineRow> findDeadlineRows();
+
+    /** 연체 플래그 일괄 설정 (@Version 도 올려 동시 상태 전이와 충돌을 감지) */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        UPDATE Rental r
+           SET r.isOverdue = true,
+               r.version = r.version + 1
+         WHERE r.id IN :ids
+           AND r.isOverdue = false
+    """)
+    int markOverdueIn(@Param("ids") Collection<Long> ids);
+
+    /** 보관 이동 대상: 종료 상태이고 종료일이 cutoff 이전인 대여 (id 키셋) */
+    @Query("""
+        SELECT r.id FROM Rental r
+        WHERE r.status IN :statuses
+          AND r.endDate < :cutoff
+          AND r.id > :afterId
+        ORDER BY r.id ASC
+    """)
+    List<Long> findArchivableIds(@Param("statuses") Collection<RentalStatus> statuses,
+                                 @Param("cutoff") LocalDate cutoff,
+                                 @Param("afterId") Long afterId,
+                                 Pageable pageable);
 
     /** 특정 아이템이 주어진 기간에 이미 예약/대여 중인지 여부 */
     @Query("""
@@ -101,9 +283,11 @@ public interface RentalRepository extends JpaRepository<Rental, Long> {
                                              @Param("monthEnd") LocalDate monthEnd);
 
     /** 특정 파트너의 요청 상태별 대여 목록 조회 */
+    @EntityGraph(Rental.LIST_VIEW_GRAPH)
     Page<Rental> findByItemPartnerIdAndStatus(Long partnerId, RentalStatus status, Pageable pageable);
 
     /** 특정 파트너의 전체 조회 목록 */
+    @EntityGraph(Rental.LIST_VIEW_GRAPH)
     @Query("SELECT r FROM Rental r " +
             "JOIN r.item i " +
             "WHERE i.partner.id = :partnerId " +
@@ -145,6 +329,10 @@ public interface RentalRepository extends JpaRepository<Rental, Long> {
             "ORDER BY SUM(i.dailyPrice * r.quantity) DESC")
     List<SubCategoryRevenueDTO> findTopSubCategoryRevenue();
 
+    /** 자동완성 인기도: 장비별 누적 대여 건수 */
+    @Query("SELECT new com.rentex.item.dto.ItemRentalCountDTO(r.item.id, COUNT(r)) FROM Rental r GROUP BY r.item.id")
+    List<ItemRentalCountDTO> countRentalsByItem();
+
     @Query("""
         select new com.rentex.dashboard.dto.TopRentedItemDTO(
             i.id, i.name, i.thumbnailUrl, count(r)
@@ -0,0 +1,21 @@
+package com.rentex.rental.scheduler;
+
+import com.rentex.rental.service.RentalArchiveService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Component
+@RequiredArgsConstructor
+public class RentalArchiveScheduler {
+
+    private final RentalArchiveService rentalArchiveService;
+
+    /** 매일 새벽 종료된 대여를 보관 테이블로 이동 (기본 03:00) */
+    @Scheduled(cron = "${rental.archive.cron:0 0 3 * * *}")
+    public void archiveFinishedRentals() {
+        rentalArchiveService.archive(LocalDate.now());
+    }
+}
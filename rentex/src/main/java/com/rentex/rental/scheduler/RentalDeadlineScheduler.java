@@ -0,0 +1,216 @@
+package com.rentex.rental.scheduler;
+
+import com.rentex.penalty.service.OverduePenaltyJob;
+import com.rentex.rental.domain.RentalDeadlineType;
+import com.rentex.rental.domain.RentalStatus;
+import com.rentex.rental.dto.RentalDeadlineRow;
+import com.rentex.rental.event.RentalChangedEvent;
+import com.rentex.rental.repository.RentalRepository;
+import com.rentex.rental.service.RentalDeadlineService;
+import com.rentex.user.service.EmailService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 대여 기한 타이머 (자정 전체 스캔 대신 기한 시각에 바로 처리)
+ * - AUTO_CANCEL     : REQUESTED 인 채로 startDate 가 지나면 (다음날 0시) 자동 취소
+ * - RETURN_REMINDER : RECEIVED 대여의 endDate 당일 reminder-time 에 반납 안내 메일
+ * - OVERDUE         : RECEIVED 대여의 endDate 다음날 0시에 연체 처리 (벌점 포함)
+ *
+ * 기한은 대여 row(상태, 날짜, isOverdue, returnRemindedAt)로부터 계산되므로 별도 저장 없이
+ * 기동 시 DB 에서 다시 적재하고, 내려가 있는 동안 지난 기한은 첫 tick 에 바로 처리된다.
+ * 이후에는 RentalChangedEvent 로 해당 대여의 타이머만 다시 건다 (등록 O(1)).
+ * 반납 안내 메일은 전용 메일 풀에서 보내 SMTP 지연이 스케줄러 스레드(이력 flush 등)를 막지 않게 한다.
+ */
+@Slf4j
+@Component
+public class RentalDeadlineScheduler {
+
+    private final RentalRepository rentalRepository;
+    private final RentalDeadlineService deadlineService;
+    private final OverduePenaltyJob overduePenaltyJob;
+    private final EmailService emailService;
+    private final LocalTime reminderTime;
+    private final long retryDelaySeconds;
+    private final ThreadPoolExecutor mailExecutor;
+
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final TimingWheel<DeadlineKey> wheel = new TimingWheel<>(nowTick());
+
+    public RentalDeadlineScheduler(RentalRepository rentalRepository,
+                                   RentalDeadlineService deadlineService,
+                                   OverduePenaltyJob overduePenaltyJob,
+                                   EmailService emailService,
+                                   @Value("${rental.deadline.reminder-time:09:00}") String reminderTime,
+                                   @Value("${rental.deadline.retry-delay-seconds:60}") long retryDelaySeconds,
+                                   @Value("${rental.deadline.mail-threads:2}") int mailThreads,
+                                   @Value("${rental.deadline.mail-queue-capacity:500}") int mailQueueCapacity) {
+        this.rentalRepository = rentalRepository;
+        this.deadlineService = deadlineService;
+        this.overduePenaltyJob = overduePenaltyJob;
+        this.emailService = emailService;
+        this.reminderTime = LocalTime.parse(reminderTime);
+        this.retryDelaySeconds = retryDelaySeconds;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.mailExecutor = new ThreadPoolExecutor(mailThreads, mailThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(mailQueueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "rental-reminder-mail-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        mailExecutor.shutdown();
+    }
+
+    /** 기동 시 진행 중인 대여의 기한을 모두 적재 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<RentalDeadlineRow> rows = rentalRepository.findDeadlineRows();
+        synchronized (wheel) {
+            for (RentalDeadlineRow row : rows) {
+                scheduleFor(row.rentalId(), row.status(), row.startDate(), row.endDate(),
+                        row.returnRemindedAt() != null);
+            }
+            log.info("대여 기한 타이머 적재 완료: rentals={}, timers={}", rows.size(), wheel.size());
+        }
+    }
+
+    /** 상태 전이 시 해당 대여의 타이머를 다시 건다 */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRentalChanged(RentalChangedEvent event) {
+        synchronized (wheel) {
+            scheduleFor(event.rentalId(), event.status(), event.startDate(), event.endDate(), false);
+        }
+    }
+
+    /** 1초마다 휠을 돌려 만료된 기한 처리 */
+    @Scheduled(fixedDelayString = "${rental.deadline.tick-ms:1000}")
+    public void tick() {
+        List<DeadlineKey> expired;
+        synchronized (wheel) {
+            expired = wheel.advanceTo(nowTick());
+        }
+        if (expired.isEmpty()) return;
+
+        LocalDate today = LocalDate.now(zone);
+        List<Long> overdueIds = new ArrayList<>();
+        for (DeadlineKey key : expired) {
+            switch (key.type()) {
+                case OVERDUE -> overdueIds.add(key.rentalId());
+                case AUTO_CANCEL -> fire(key, () -> {
+                    if (deadlineService.autoCancel(key.rentalId(), today)) {
+                        log.info("미승인 대여 요청 자동 취소: rentalId={}", key.rentalId());
+                    }
+                });
+                case RETURN_REMINDER -> remind(key, today);
+            }
+        }
+
+        // 같은 자정에 몰리는 연체는 한 번에 청크 처리
+        if (!overdueIds.isEmpty()) {
+            try {
+                int marked = overduePenaltyJob.markOverdue(overdueIds, today);
+                log.info("기한 타이머 연체 처리: {}건 중 {}건", overdueIds.size(), marked);
+            } catch (RuntimeException e) {
+                log.error("기한 타이머 연체 처리 실패, {}초 후 재시도: {}건", retryDelaySeconds, overdueIds.size(), e);
+                overdueIds.forEach(id -> retry(new DeadlineKey(id, RentalDeadlineType.OVERDUE)));
+            }
+        }
+    }
+
+    // === 내부 ===
+
+    // 대여 상태에 맞는 타이머만 남긴다 (호출 측에서 wheel 동기화)
+    private void scheduleFor(Long rentalId, RentalStatus status, LocalDate startDate, LocalDate endDate,
+                             boolean reminded) {
+        for (RentalDeadlineType type : RentalDeadlineType.values()) {
+            wheel.cancel(new DeadlineKey(rentalId, type));
+        }
+
+        if (status == RentalStatus.REQUESTED) {
+            wheel.schedule(new DeadlineKey(rentalId, RentalDeadlineType.AUTO_CANCEL),
+                    toTick(startDate.plusDays(1).atStartOfDay()));
+        } else if (status == RentalStatus.RECEIVED) {
+            if (!reminded) {
+                wheel.schedule(new DeadlineKey(rentalId, RentalDeadlineType.RETURN_REMINDER),
+                        toTick(endDate.atTime(reminderTime)));
+            }
+            wheel.schedule(new DeadlineKey(rentalId, RentalDeadlineType.OVERDUE),
+                    toTick(endDate.plusDays(1).atStartOfDay()));
+        }
+    }
+
+    private void fire(DeadlineKey key, Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            log.error("대여 기한 처리 실패, {}초 후 재시도: {}", retryDelaySeconds, key, e);
+            retry(key);
+        }
+    }
+
+    // 발송 대상 선점 + 메일 발송은 메일 풀에서 (큐가 가득 차면 선점하지 않은 채 나중에 다시)
+    private void remind(DeadlineKey key, LocalDate today) {
+        try {
+            mailExecutor.execute(() -> fire(key, () -> deadlineService.claimReturnReminder(key.rentalId(), today)
+                    .ifPresent(this::sendReturnReminder)));
+        } catch (RejectedExecutionException e) {
+            log.warn("반납 안내 메일 대기열이 가득 참, {}초 후 재시도: {}", retryDelaySeconds, key);
+            retry(key);
+        }
+    }
+
+    private void retry(DeadlineKey key) {
+        synchronized (wheel) {
+            // 그 사이 상태 전이로 새 타이머가 걸렸으면 그쪽을 따른다
+            if (!wheel.contains(key)) {
+                wheel.schedule(key, nowTick() + retryDelaySeconds);
+            }
+        }
+    }
+
+    private void sendReturnReminder(RentalDeadlineService.ReturnReminder reminder) {
+        emailService.sendHtmlMessage(
+                reminder.email(),
+                "[Rentex] 오늘은 " + reminder.itemName() + " 반납일입니다.",
+                "<p>" + reminder.nickname() + "님, 대여하신 <b>" + reminder.itemName() + "</b>의 반납 기한은 "
+                        + reminder.endDate() + " 입니다.</p>"
+                        + "<p>기한이 지나면 연체 처리되어 벌점이 부과됩니다.</p>"
+        );
+    }
+
+    private long toTick(LocalDateTime at) {
+        return at.atZone(zone).toEpochSecond();
+    }
+
+    private static long nowTick() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+    private record DeadlineKey(Long rentalId, RentalDeadlineType type) {}
+}
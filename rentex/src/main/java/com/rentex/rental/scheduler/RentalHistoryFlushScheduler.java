@@ -0,0 +1,29 @@
+package com.rentex.rental.scheduler;
+
+import com.rentex.rental.service.RentalHistoryWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RentalHistoryFlushScheduler {
+
+    private final RentalHistoryWriter historyWriter;
+
+    /** 커밋된 대여 이력을 모아 DB 에 배치 저장 (기본 0.5초) */
+    @Scheduled(fixedDelayString = "${rental.history.flush-interval-ms:500}")
+    public void flush() {
+        try {
+            int flushed = historyWriter.flush();
+            if (flushed > 0) {
+                log.debug("대여 이력 {}건 저장", flushed);
+            }
+        } catch (RuntimeException e) {
+            // 버퍼와 로그에 그대로 남아 있으므로 다음 주기에 다시 시도
+            log.error("대여 이력 저장 실패", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.rentex.rental.scheduler;
+
+import com.rentex.rental.service.RentalAvailabilityBitmap;
+import com.rentex.rental.service.RentalAvailabilityCache;
+import com.rentex.rental.service.RentalAvailabilityIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RentalReservationReconcileScheduler {
+
+    private final RentalAvailabilityIndex availabilityIndex;
+    private final RentalAvailabilityBitmap availabilityBitmap;
+    private final RentalAvailabilityCache availabilityCache;
+
+    /** 주기적으로 가용성 인덱스를 DB 기준으로 보정 (기본 5분) */
+    @Scheduled(fixedDelayString = "${rental.reservation.reconcile-interval-ms:300000}",
+               initialDelayString = "${rental.reservation.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        int drifted = availabilityIndex.reload();
+        if (drifted > 0) {
+            log.warn("대여 가용성 인덱스 보정: {}개 아이템이 DB 와 달라 갱신함", drifted);
+            availabilityCache.invalidateAll();
+        }
+        // 보정된 인덱스 기준으로 재구성 (날짜가 바뀌었으면 기준일도 오늘로 이동)
+        availabilityBitmap.rebuild();
+    }
+}
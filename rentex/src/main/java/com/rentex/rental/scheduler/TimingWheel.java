@@ -0,0 +1,118 @@
+package com.rentex.rental.scheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계층형 타이밍 휠 (1 tick = 1초)
+ * - 레벨마다 64칸, 5레벨이면 64^5 초(약 34년)까지 표현된다.
+ * - 등록/취소는 O(1). 상위 레벨 칸은 하위 레벨이 한 바퀴 돌 때마다 한 칸씩 아래로 내려보낸다(cascade).
+ * - 같은 key 로 다시 등록하면 이전 타이머는 취소된다 (취소는 표시만 하고 꺼낼 때 버린다).
+ *
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화한다.
+ */
+final class TimingWheel<K> {
+
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 5;
+
+    private final List<Timer<K>>[][] wheels;
+    private final Map<K, Timer<K>> timers = new HashMap<>();
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(long startTick) {
+        this.currentTick = startTick;
+        this.wheels = new List[LEVELS][SLOTS];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                wheels[level][slot] = new ArrayList<>();
+            }
+        }
+    }
+
+    /** expireTick 에 만료되도록 등록 (이미 지난 시각이면 다음 advance 에서 바로 만료) */
+    void schedule(K key, long expireTick) {
+        cancel(key);
+        Timer<K> timer = new Timer<>(key, Math.max(expireTick, currentTick + 1));
+        timers.put(key, timer);
+        place(timer);
+    }
+
+    void cancel(K key) {
+        Timer<K> old = timers.remove(key);
+        if (old != null) old.cancelled = true;
+    }
+
+    boolean contains(K key) {
+        return timers.containsKey(key);
+    }
+
+    int size() {
+        return timers.size();
+    }
+
+    long currentTick() {
+        return currentTick;
+    }
+
+    /** nowTick 까지 한 칸씩 돌리며 만료된 key 를 만료 순서대로 돌려준다 */
+    List<K> advanceTo(long nowTick) {
+        List<K> expired = new ArrayList<>();
+        while (currentTick < nowTick) {
+            currentTick++;
+            cascade();
+
+            List<Timer<K>> slot = wheels[0][(int) (currentTick & MASK)];
+            if (slot.isEmpty()) continue;
+            List<Timer<K>> due = new ArrayList<>(slot);
+            slot.clear();
+            for (Timer<K> timer : due) {
+                if (timer.cancelled) continue;
+                timers.remove(timer.key);
+                expired.add(timer.key);
+            }
+        }
+        return expired;
+    }
+
+    // 하위 레벨 인덱스가 0 으로 돌아온 레벨만 한 칸씩 아래로 재배치
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            if ((currentTick & ((1L << (BITS * level)) - 1)) != 0) return;
+
+            List<Timer<K>> slot = wheels[level][(int) ((currentTick >>> (BITS * level)) & MASK)];
+            if (slot.isEmpty()) continue;
+            List<Timer<K>> moved = new ArrayList<>(slot);
+            slot.clear();
+            for (Timer<K> timer : moved) {
+                if (!timer.cancelled) place(timer);
+            }
+        }
+    }
+
+    private void place(Timer<K> timer) {
+        long delta = timer.expireTick - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (BITS * (level + 1)))) {
+            level++;
+        }
+        int slot = (int) ((timer.expireTick >>> (BITS * level)) & MASK);
+        wheels[level][slot].add(timer);
+    }
+
+    private static final class Timer<K> {
+        final K key;
+        final long expireTick;
+        boolean cancelled;
+
+        Timer(K key, long expireTick) {
+            this.key = key;
+            this.expireTick = expireTick;
+        }
+    }
+}
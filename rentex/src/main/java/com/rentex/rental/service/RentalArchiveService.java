@@ -0,0 +1,116 @@
+package com.rentex.rental.service;
+
+import com.rentex.rental.domain.RentalStatus;
+import com.rentex.rental.repository.RentalArchiveRepository;
+import com.rentex.rental.repository.RentalRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 종료된 대여 보관 이동 (rental / rental_history → rental_archive / rental_history_archive)
+ * - 종료 상태(RETURNED, CANCELED, REJECTED)이고 종료일이 retention-days 보다 오래된 대여가 대상.
+ * - id keyset 으로 batch-size 건씩, 배치마다 별도 트랜잭션에서 복사 → 이력 삭제 → 대여 삭제.
+ *   실패하면 해당 배치만 롤백되고, 다음 실행 때 남은 대상부터 다시 잡힌다.
+ * - 아직 DB 에 반영되지 않은 이력(RentalHistoryWriter 대기분)이 있는 대여는 이번 실행에서 건너뛴다.
+ */
+@Slf4j
+@Service
+public class RentalArchiveService {
+
+    private static final Set<RentalStatus> FINISHED_STATUSES =
+            EnumSet.of(RentalStatus.RETURNED, RentalStatus.CANCELED, RentalStatus.REJECTED);
+
+    private final RentalRepository rentalRepository;
+    private final RentalArchiveRepository archiveRepository;
+    private final RentalHistoryWriter historyWriter;
+    private final TransactionTemplate batchTx;
+    private final int retentionDays;
+    private final int batchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public RentalArchiveService(RentalRepository rentalRepository,
+                                RentalArchiveRepository archiveRepository,
+                                RentalHistoryWriter historyWriter,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${rental.archive.retention-days:180}") int retentionDays,
+                                @Value("${rental.archive.batch-size:500}") int batchSize) {
+        this.rentalRepository = rentalRepository;
+        this.archiveRepository = archiveRepository;
+        this.historyWriter = historyWriter;
+        this.batchTx = new TransactionTemplate(transactionManager);
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+    }
+
+    /** 보관 실행 결과 */
+    public record ArchiveResult(boolean started, LocalDate cutoff, int batches, int rentals,
+                                int histories, int skipped, long elapsedMs) {}
+
+    /**
+     * today 기준 retention-days 이전에 끝난 대여를 모두 보관
+     * @return 실행 결과 (이미 실행 중이면 started = false)
+     */
+    public ArchiveResult archive(LocalDate today) {
+        LocalDate cutoff = today.minusDays(retentionDays);
+        if (!running.compareAndSet(false, true)) {
+            log.warn("대여 보관 작업이 이미 실행 중입니다.");
+            return new ArchiveResult(false, cutoff, 0, 0, 0, 0, 0L);
+        }
+
+        long started = System.currentTimeMillis();
+        long lastId = 0L;
+        int batches = 0, rentals = 0, histories = 0, skipped = 0;
+
+        try {
+            while (true) {
+                List<Long> ids = rentalRepository.findArchivableIds(
+                        FINISHED_STATUSES, cutoff, lastId, PageRequest.of(0, batchSize));
+                if (ids.isEmpty()) break;
+                lastId = ids.get(ids.size() - 1);
+
+                List<Long> ready = ids.stream()
+                        .filter(id -> historyWriter.pendingFor(id).isEmpty())
+                        .toList();
+                skipped += ids.size() - ready.size();
+
+                if (!ready.isEmpty()) {
+                    int[] moved = batchTx.execute(tx -> moveBatch(ready));
+                    batches++;
+                    rentals += moved[0];
+                    histories += moved[1];
+                    log.info("대여 보관 배치 #{}: 대여 {}건, 이력 {}건 (lastId={})", batches, moved[0], moved[1], lastId);
+                }
+                if (ids.size() < batchSize) break;
+            }
+        } catch (RuntimeException e) {
+            log.error("대여 보관 작업 실패 (lastId={}, 보관 {}건)", lastId, rentals, e);
+        } finally {
+            running.set(false);
+        }
+
+        long elapsed = System.currentTimeMillis() - started;
+        log.info("대여 보관 작업 종료: cutoff={}, 대여 {}건, 이력 {}건, 건너뜀 {}건, {}ms",
+                cutoff, rentals, histories, skipped, elapsed);
+        return new ArchiveResult(true, cutoff, batches, rentals, histories, skipped, elapsed);
+    }
+
+    // 복사 후 원본 삭제 (rental_history 가 rental 을 참조하므로 이력부터 지운다)
+    private int[] moveBatch(List<Long> ids) {
+        int rentals = archiveRepository.copyRentals(ids);
+        int histories = archiveRepository.copyHistories(ids);
+        archiveRepository.deleteHistories(ids);
+        archiveRepository.deleteRentals(ids);
+        return new int[]{rentals, histories};
+    }
+}
@@ -0,0 +1,215 @@
+package com.rentex.rental.service;
+
+import com.rentex.item.domain.Item;
+import com.rentex.item.dto.ItemStockDTO;
+import com.rentex.item.event.ItemChangedEvent;
+import com.rentex.item.event.ItemsImportedEvent;
+import com.rentex.item.repository.ItemRepository;
+import com.rentex.rental.event.RentalChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 일자별 만석 장비 비트맵 (여러 장비 기간 검색용)
+ * - 오늘부터 HORIZON_DAYS 일 동안, 하루마다 "그날 보유 수량이 모두 점유된 장비" 집합을 BitSet 으로 들고 있다.
+ *   비트 위치는 장비마다 부여한 고정 번호다.
+ * - 기간 검색 = 기간 내 일자 BitSet 들의 OR (하루라도 만석) → 카테고리 BitSet 과 AND NOT.
+ * - 점유량은 RentalAvailabilityIndex 에서 계산하므로 DB 를 다시 읽지 않는다.
+ *   대여 전이(RentalChangedEvent) / 장비 변경(ItemChangedEvent) 시 해당 장비 비트만 다시 계산한다.
+ *
+ * ⚠️ 가용성 인덱스와 같이 인스턴스 로컬이며, 실제 대여 시에는 RentalReservationManager 가 다시 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RentalAvailabilityBitmap {
+
+    static final int HORIZON_DAYS = 366;
+
+    private final RentalAvailabilityIndex availabilityIndex;
+    private final ItemRepository itemRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // --- 아래 상태는 모두 lock 으로 보호 ---
+    private LocalDate baseDate = LocalDate.now();
+    private final BitSet[] fullItemsByDay = new BitSet[HORIZON_DAYS];
+    private final Map<Long, Integer> positionByItem = new HashMap<>();
+    private final List<ItemStockDTO> itemByPosition = new ArrayList<>();   // 삭제된 장비는 null
+    private final BitSet rentableItems = new BitSet();                     // AVAILABLE 상태 장비
+    private final Map<Long, BitSet> itemsByCategory = new HashMap<>();
+    private final Map<Long, BitSet> itemsBySubCategory = new HashMap<>();
+
+    {
+        for (int d = 0; d < HORIZON_DAYS; d++) {
+            fullItemsByDay[d] = new BitSet();
+        }
+    }
+
+    /** 기동 시 적재 (가용성 인덱스 적재 이후) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /**
+     * 전체 재구성. 기준일을 오늘로 옮기고 장비 번호도 다시 매긴다.
+     * 가용성 인덱스 보정(reload) 이후에도 호출된다.
+     */
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        List<ItemStockDTO> items = itemRepository.findAllStock();
+
+        lock.writeLock().lock();
+        try {
+            baseDate = LocalDate.now();
+            for (BitSet day : fullItemsByDay) day.clear();
+            positionByItem.clear();
+            itemByPosition.clear();
+            rentableItems.clear();
+            itemsByCategory.clear();
+            itemsBySubCategory.clear();
+
+            for (ItemStockDTO item : items) {
+                int position = itemByPosition.size();
+                positionByItem.put(item.itemId(), position);
+                itemByPosition.add(item);
+                index(position, item);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("대여 가용성 비트맵 적재 완료: items={}, {}ms", items.size(), System.currentTimeMillis() - started);
+    }
+
+    /** 커밋된 대여 전이 반영 (가용성 인덱스 반영 이후 실행) */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRentalChanged(RentalChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            Integer position = positionByItem.get(event.itemId());
+            if (position == null || itemByPosition.get(position) == null) return;
+            markFullDays(position, itemByPosition.get(position));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 일괄 등록은 건마다 반영하지 않고 전체 재적재 */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onItemsImported(ItemsImportedEvent event) {
+        rebuild();
+    }
+
+    /** 장비 등록/수정/삭제 반영 (보유 수량, 상태, 카테고리) */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        ItemStockDTO fresh = itemRepository.findStockById(event.itemId()).orElse(null);
+
+        lock.writeLock().lock();
+        try {
+            Integer position = positionByItem.get(event.itemId());
+            if (position != null) {
+                unindex(position, itemByPosition.get(position));
+                itemByPosition.set(position, fresh);
+            } else if (fresh != null) {
+                position = itemByPosition.size();
+                positionByItem.put(event.itemId(), position);
+                itemByPosition.add(fresh);
+            }
+            if (fresh != null) {
+                index(position, fresh);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 기간 내 quantity 개 이상 빌릴 수 있는 장비 id (id 오름차순)
+     * - 비트맵으로 "하루라도 만석"인 장비를 먼저 제외하고,
+     *   수량이 2 이상이거나 기간이 비트맵 범위를 벗어나면 남은 후보만 일자별 점유량으로 확인한다.
+     */
+    public List<Long> findAvailableItemIds(LocalDate startDate, LocalDate endDate,
+                                           Long categoryId, Long subCategoryId, int quantity) {
+        List<ItemStockDTO> candidates = new ArrayList<>();
+        boolean coveredByBitmap;
+
+        lock.readLock().lock();
+        try {
+            BitSet result = (BitSet) rentableItems.clone();
+            if (categoryId != null) result.and(itemsByCategory.getOrDefault(categoryId, new BitSet()));
+            if (subCategoryId != null) result.and(itemsBySubCategory.getOrDefault(subCategoryId, new BitSet()));
+
+            long fromDay = ChronoUnit.DAYS.between(baseDate, startDate);
+            long toDay = ChronoUnit.DAYS.between(baseDate, endDate);
+            coveredByBitmap = fromDay >= 0 && toDay < HORIZON_DAYS;
+
+            BitSet busy = new BitSet();
+            for (long d = Math.max(0, fromDay); d <= Math.min(HORIZON_DAYS - 1, toDay); d++) {
+                busy.or(fullItemsByDay[(int) d]);
+            }
+            result.andNot(busy);
+
+            for (int p = result.nextSetBit(0); p >= 0; p = result.nextSetBit(p + 1)) {
+                candidates.add(itemByPosition.get(p));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 수량 1 + 범위 안이면 비트맵 결과가 곧 정답
+        boolean exactCheck = quantity > 1 || !coveredByBitmap;
+        return candidates.stream()
+                .filter(item -> !exactCheck || item.stockQuantity() - availabilityIndex.peakQuantity(
+                        item.itemId(), startDate, endDate, RentalAvailabilityIndex.OCCUPYING_STATUSES) >= quantity)
+                .map(ItemStockDTO::itemId)
+                .sorted()
+                .toList();
+    }
+
+    // === 내부 (writeLock 안에서 호출) ===
+
+    private void index(int position, ItemStockDTO item) {
+        if (item.status() == Item.ItemStatus.AVAILABLE) rentableItems.set(position);
+        if (item.categoryId() != null) {
+            itemsByCategory.computeIfAbsent(item.categoryId(), k -> new BitSet()).set(position);
+        }
+        if (item.subCategoryId() != null) {
+            itemsBySubCategory.computeIfAbsent(item.subCategoryId(), k -> new BitSet()).set(position);
+        }
+        markFullDays(position, item);
+    }
+
+    private void unindex(int position, ItemStockDTO item) {
+        rentableItems.clear(position);
+        for (BitSet day : fullItemsByDay) day.clear(position);
+        if (item == null) return;
+        if (item.categoryId() != null && itemsByCategory.containsKey(item.categoryId())) {
+            itemsByCategory.get(item.categoryId()).clear(position);
+        }
+        if (item.subCategoryId() != null && itemsBySubCategory.containsKey(item.subCategoryId())) {
+            itemsBySubCategory.get(item.subCategoryId()).clear(position);
+        }
+    }
+
+    // 일자별 점유량이 보유 수량 이상인 날에 비트를 세운다
+    private void markFullDays(int position, ItemStockDTO item) {
+        int[] daily = availabilityIndex.dailyQuantities(
+                item.itemId(), baseDate, baseDate.plusDays(HORIZON_DAYS - 1),
+                RentalAvailabilityIndex.OCCUPYING_STATUSES);
+        for (int d = 0; d < HORIZON_DAYS; d++) {
+            fullItemsByDay[d].set(position, daily[d] >= item.stockQuantity());
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.rentex.rental.service;
+
+import com.rentex.rental.dto.AvailabilityResponseDto;
+import com.rentex.rental.event.RentalChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 대여 가능 여부 응답 캐시 (itemId, startDate, endDate)
+ * - 전체 건수 상한(LRU 제거) + TTL 상한.
+ * - 대여 전이가 커밋되면 해당 장비에서 기간이 겹치는 항목만 지운다.
+ * - 무효화와 동시에 계산 중이던 값은 장비별 세대(generation) 또는 전체 세대(epoch)가 바뀌었으면 저장하지 않는다.
+ */
+@Component
+public class RentalAvailabilityCache {
+
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    // --- 아래 상태는 모두 this 로 동기화 ---
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(256, 0.75f, true); // 접근 순서 = LRU
+    private final Map<Long, Set<Key>> keysByItem = new HashMap<>();
+    private final Map<Long, Long> generationByItem = new HashMap<>();
+    private long epoch; // invalidateAll 마다 증가 (아직 세대가 없는 장비의 계산 중 값도 막는다)
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public RentalAvailabilityCache(@Value("${rental.availability-cache.ttl-ms:30000}") long ttlMillis,
+                                   @Value("${rental.availability-cache.max-entries:20000}") int maxEntries) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    public AvailabilityResponseDto get(Long itemId, LocalDate startDate, LocalDate endDate,
+                                       Supplier<AvailabilityResponseDto> loader) {
+        Key key = new Key(itemId, startDate, endDate);
+        long now = System.currentTimeMillis();
+        long generation;
+        long startedEpoch;
+
+        synchronized (this) {
+            Entry cached = entries.get(key);
+            if (cached != null && cached.expiresAt() > now) {
+                hits.increment();
+                return cached.value();
+            }
+            if (cached != null) remove(key);
+            generation = generationByItem.getOrDefault(itemId, 0L);
+            startedEpoch = epoch;
+        }
+
+        misses.increment();
+        AvailabilityResponseDto value = loader.get();
+
+        synchronized (this) {
+            if (epoch == startedEpoch && generationByItem.getOrDefault(itemId, 0L) == generation) {
+                entries.put(key, new Entry(value, now + ttlMillis));
+                keysByItem.computeIfAbsent(itemId, k -> new HashSet<>()).add(key);
+                evictOverflow();
+            }
+        }
+        return value;
+    }
+
+    /** 커밋된 대여 전이 반영 (가용성 인덱스 반영 이후 실행) */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRentalChanged(RentalChangedEvent event) {
+        invalidate(event.itemId(), event.startDate(), event.endDate());
+    }
+
+    /** 해당 장비에서 [startDate, endDate] 와 겹치는 조회 결과 제거 */
+    public synchronized void invalidate(Long itemId, LocalDate startDate, LocalDate endDate) {
+        generationByItem.merge(itemId, 1L, Long::sum);
+
+        Set<Key> keys = keysByItem.get(itemId);
+        if (keys == null) return;
+        List<Key> stale = keys.stream()
+                .filter(k -> !k.endDate().isBefore(startDate) && !k.startDate().isAfter(endDate))
+                .toList();
+        stale.forEach(this::remove);
+        invalidations.add(stale.size());
+    }
+
+    /** 전체 비우기 (가용성 인덱스가 DB 기준으로 보정되었을 때) */
+    public synchronized void invalidateAll() {
+        epoch++;
+        invalidations.add(entries.size());
+        entries.clear();
+        keysByItem.clear();
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), invalidations.sum(),
+                entries.size(), maxEntries, ttlMillis);
+    }
+
+    // === 내부 (this 동기화 안에서 호출) ===
+
+    private void evictOverflow() {
+        Iterator<Key> eldest = entries.keySet().iterator();
+        while (entries.size() > maxEntries && eldest.hasNext()) {
+            Key key = eldest.next();
+            eldest.remove();
+            detach(key);
+            evictions.increment();
+        }
+    }
+
+    private void remove(Key key) {
+        entries.remove(key);
+        detach(key);
+    }
+
+    private void detach(Key key) {
+        Set<Key> keys = keysByItem.get(key.itemId());
+        if (keys == null) return;
+        keys.remove(key);
+        if (keys.isEmpty()) keysByItem.remove(key.itemId());
+    }
+
+    private record Key(Long itemId, LocalDate startDate, LocalDate endDate) {}
+
+    private record Entry(AvailabilityResponseDto value, long expiresAt) {}
+
+    public record Stats(long hits, long misses, long evictions, long invalidations,
+                        int size, int maxEntries, long ttlMillis) {
+        /** 조회 대비 적중 비율 */
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package com.rentex.rental.service;
+
+import com.rentex.rental.domain.RentalStatus;
+import com.rentex.rental.dto.RentalSlotDto;
+import com.rentex.rental.event.RentalChangedEvent;
+import com.rentex.rental.repository.RentalRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 아이템별 대여 기간 인덱스 (인메모리)
+ * - 기동 시 DB 에서 기간을 점유하는 렌탈을 한 번에 적재
+ * - RentalService 의 상태 전이는 커밋 이후 RentalChangedEvent 로 반영
+ * - 조회는 DB 를 거치지 않고 아이템별 정렬 배열에서 이진 탐색으로 처리
+ * - 수량 기준 재고 판단은 요청 기간의 일자별 최대 점유 수량(peak)으로 계산
+ *
+ * ⚠️ 인스턴스 로컬 캐시이므로 다른 인스턴스에서 발생한 전이는 반영되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RentalAvailabilityIndex {
+
+    /** 기간을 점유하는 상태 (findConflictingRentals 와 동일) */
+    public static final List<RentalStatus> OCCUPYING_STATUSES = List.of(
+            RentalStatus.REQUESTED, RentalStatus.APPROVED, RentalStatus.SHIPPED,
+            RentalStatus.RECEIVED, RentalStatus.RETURN_REQUESTED
+    );
+
+    private final RentalRepository rentalRepository;
+
+    private final Map<Long, ItemSlots> slotsByItem = new ConcurrentHashMap<>();
+    private final AtomicLong eventSeq = new AtomicLong();
+    private volatile boolean warmedUp = false;
+
+    /** 기동 시 전체 적재 */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long started = System.currentTimeMillis();
+        Map<Long, List<RentalSlotDto>> grouped = rentalRepository.findSlotsByStatuses(OCCUPYING_STATUSES)
+                .stream()
+                .collect(Collectors.groupingBy(RentalSlotDto::itemId));
+
+        // 적재 도중 이벤트로 먼저 만들어진 엔트리가 더 최신이므로 덮어쓰지 않는다
+        grouped.forEach((itemId, slots) -> slotsByItem.putIfAbsent(itemId, ItemSlots.of(slots)));
+        warmedUp = true;
+
+        log.info("대여 가용성 인덱스 적재 완료: items={}, rentals={}, {}ms",
+                grouped.size(),
+                grouped.values().stream().mapToInt(List::size).sum(),
+                System.currentTimeMillis() - started);
+    }
+
+    /** 커밋된 상태 전이 반영 (이 인덱스를 읽는 다른 구독자보다 먼저 실행) */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRentalChanged(RentalChangedEvent event) {
+        ItemSlots base = slotsOf(event.itemId());
+        RentalSlotDto slot = new RentalSlotDto(
+                event.rentalId(), event.itemId(), event.startDate(), event.endDate(),
+                event.quantity(), event.status()
+        );
+        long seq = eventSeq.incrementAndGet();
+        slotsByItem.compute(event.itemId(), (id, current) -> (current != null ? current : base).upsert(slot, seq));
+    }
+
+    /**
+     * DB 기준으로 전체 인덱스를 다시 맞춘다 (드리프트 보정용)
+     * 조회 이후 이벤트로 갱신된 아이템은 이벤트 쪽이 더 최신이므로 건너뛴다.
+     *
+     * @return DB 와 내용이 달랐던 아이템 수
+     */
+    public int reload() {
+        long seqBefore = eventSeq.get();
+        Map<Long, List<RentalSlotDto>> grouped = rentalRepository.findSlotsByStatuses(OCCUPYING_STATUSES)
+                .stream()
+                .collect(Collectors.groupingBy(RentalSlotDto::itemId));
+
+        Set<Long> itemIds = new HashSet<>(slotsByItem.keySet());
+        itemIds.addAll(grouped.keySet());
+
+        int drifted = 0;
+        for (Long itemId : itemIds) {
+            ItemSlots fresh = ItemSlots.of(grouped.getOrDefault(itemId, List.of()));
+            ItemSlots current = slotsByItem.get(itemId);
+            if (current != null && current.seq > seqBefore) continue;
+            if (current == null || !current.sameSlotsAs(fresh)) {
+                drifted++;
+                slotsByItem.compute(itemId, (id, cur) -> cur != null && cur.seq > seqBefore ? cur : fresh);
+            }
+        }
+        warmedUp = true;
+        return drifted;
+    }
+
+    /** 기간이 겹치는 렌탈 조회 (statuses 에 포함된 상태만) */
+    public List<RentalSlotDto> findOverlapping(Long itemId, LocalDate startDate, LocalDate endDate,
+                                               Collection<RentalStatus> statuses) {
+        return slotsOf(itemId).overlapping(startDate, endDate, statuses);
+    }
+
+    /** 요청 기간 중 일자별 점유 수량의 최댓값 */
+    public int peakQuantity(Long itemId, LocalDate startDate, LocalDate endDate,
+                            Collection<RentalStatus> statuses) {
+        return slotsOf(itemId).peakQuantity(startDate, endDate, statuses);
+    }
+
+    /** 아직 커밋되지 않은 점유(pending)까지 포함한 최대 점유 수량 */
+    public int peakQuantity(Long itemId, LocalDate startDate, LocalDate endDate,
+                            Collection<RentalStatus> statuses, Collection<RentalSlotDto> pending) {
+        return slotsOf(itemId).peakQuantity(startDate, endDate, statuses, pending);
+    }
+
+    /** 요청 기간의 일자별 점유 수량 (index 0 = startDate) */
+    public int[] dailyQuantities(Long itemId, LocalDate startDate, LocalDate endDate,
+                                 Collection<RentalStatus> statuses) {
+        return slotsOf(itemId).dailyQuantities(startDate, endDate, statuses);
+    }
+
+    /** 기간이 겹치는 렌탈 존재 여부 */
+    public boolean hasOverlap(Long itemId, LocalDate startDate, LocalDate endDate,
+                              Collection<RentalStatus> statuses) {
+        return !findOverlapping(itemId, startDate, endDate, statuses).isEmpty();
+    }
+
+    // 아이템 엔트리 조회. 적재 전이라면 해당 아이템만 DB 에서 읽어온다.
+    private ItemSlots slotsOf(Long itemId) {
+        ItemSlots slots = slotsByItem.get(itemId);
+        if (slots != null) return slots;
+        if (warmedUp) return ItemSlots.EMPTY;
+
+        ItemSlots loaded = ItemSlots.of(rentalRepository.findSlotsByItemIdAndStatuses(itemId, OCCUPYING_STATUSES));
+        ItemSlots previous = slotsByItem.putIfAbsent(itemId, loaded);
+        return previous != null ? previous : loaded;
+    }
+
+    /**
+     * 아이템 하나의 점유 구간 스냅샷 (불변)
+     * startDate 오름차순 정렬 + 최장 구간 길이로 겹침 탐색 범위를 제한한다.
+     */
+    static final class ItemSlots {
+
+        static final ItemSlots EMPTY = new ItemSlots(new RentalSlotDto[0], 0, 0);
+
+        private static final Comparator<RentalSlotDto> ORDER =
+                Comparator.comparing(RentalSlotDto::startDate).thenComparing(RentalSlotDto::rentalId);
+
+        private final RentalSlotDto[] slots;
+        private final long maxSpanDays;
+        private final long seq; // 마지막으로 반영된 이벤트 순번 (DB 적재본은 0)
+
+        private ItemSlots(RentalSlotDto[] slots, long maxSpanDays, long seq) {
+            this.slots = slots;
+            this.maxSpanDays = maxSpanDays;
+            this.seq = seq;
+        }
+
+        static ItemSlots of(Collection<RentalSlotDto> source) {
+            return of(source, 0);
+        }
+
+        private static ItemSlots of(Collection<RentalSlotDto> source, long seq) {
+            RentalSlotDto[] sorted = source.stream()
+                    .filter(s -> OCCUPYING_STATUSES.contains(s.status()))
+                    .sorted(ORDER)
+                    .toArray(RentalSlotDto[]::new);
+            long maxSpan = 0;
+            for (RentalSlotDto s : sorted) {
+                maxSpan = Math.max(maxSpan, ChronoUnit.DAYS.between(s.startDate(), s.endDate()));
+            }
+            return new ItemSlots(sorted, maxSpan, seq);
+        }
+
+        /** 같은 rentalId 구간을 교체 (점유 상태가 아니면 제거만) */
+        ItemSlots upsert(RentalSlotDto slot) {
+            return upsert(slot, seq);
+        }
+
+        private ItemSlots upsert(RentalSlotDto slot, long newSeq) {
+            List<RentalSlotDto> next = new ArrayList<>(slots.length + 1);
+            for (RentalSlotDto s : slots) {
+                if (!s.rentalId().equals(slot.rentalId())) next.add(s);
+            }
+            next.add(slot);
+            return of(next, newSeq);
+        }
+
+        boolean sameSlotsAs(ItemSlots other) {
+            return Arrays.equals(slots, other.slots);
+        }
+
+        List<RentalSlotDto> overlapping(LocalDate startDate, LocalDate endDate, Collection<RentalStatus> statuses) {
+            if (slots.length == 0) return List.of();
+
+            // start >= startDate - maxSpan 인 첫 위치부터 start <= endDate 까지만 훑는다
+            LocalDate lowerBound = startDate.minusDays(maxSpanDays);
+            int from = firstIndexFrom(lowerBound);
+
+            List<RentalSlotDto> result = new ArrayList<>();
+            for (int i = from; i < slots.length && !slots[i].startDate().isAfter(endDate); i++) {
+                RentalSlotDto s = slots[i];
+                if (!s.endDate().isBefore(startDate) && statuses.contains(s.status())) {
+                    result.add(s);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * 스윕 라인: 겹치는 구간마다 시작일 +q, 종료 다음날 -q 를 기록한 뒤 누적합
+         * 요청 기간 밖으로 나가는 부분은 잘라서 계산한다.
+         */
+        int[] dailyQuantities(LocalDate startDate, LocalDate endDate, Collection<RentalStatus> statuses) {
+            return dailyQuantities(startDate, endDate, statuses, List.of());
+        }
+
+        int[] dailyQuantities(LocalDate startDate, LocalDate endDate, Collection<RentalStatus> statuses,
+                              Collection<RentalSlotDto> pending) {
+            int days = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+            if (days <= 0) return new int[0];
+
+            int[] delta = new int[days + 1];
+            for (RentalSlotDto s : overlapping(startDate, endDate, statuses)) {
+                addClipped(delta, days, startDate, s);
+            }
+            for (RentalSlotDto s : pending) {
+                if (!s.startDate().isAfter(endDate) && !s.endDate().isBefore(startDate)) {
+                    addClipped(delta, days, startDate, s);
+                }
+            }
+
+            int[] daily = new int[days];
+            int running = 0;
+            for (int d = 0; d < days; d++) {
+                running += delta[d];
+                daily[d] = running;
+            }
+            return daily;
+        }
+
+        int peakQuantity(LocalDate startDate, LocalDate endDate, Collection<RentalStatus> statuses) {
+            return peakQuantity(startDate, endDate, statuses, List.of());
+        }
+
+        int peakQuantity(LocalDate startDate, LocalDate endDate, Collection<RentalStatus> statuses,
+                         Collection<RentalSlotDto> pending) {
+            int peak = 0;
+            for (int q : dailyQuantities(startDate, endDate, statuses, pending)) {
+                peak = Math.max(peak, q);
+            }
+            return peak;
+        }
+
+        private static void addClipped(int[] delta, int days, LocalDate startDate, RentalSlotDto s) {
+            int from = (int) Math.max(0, ChronoUnit.DAYS.between(startDate, s.startDate()));
+            int to = (int) Math.min(days, ChronoUnit.DAYS.between(startDate, s.endDate()) + 1);
+            delta[from] += s.quantity();
+            delta[to] -= s.quantity();
+        }
+
+        private int firstIndexFrom(LocalDate date) {
+            int lo = 0, hi = slots.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (slots[mid].startDate().isBefore(date)) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.rentex.rental.service;
+
+import com.rentex.item.domain.Item;
+import com.rentex.rental.domain.Rental;
+import com.rentex.rental.domain.RentalArchive;
+import com.rentex.rental.domain.RentalStatus;
+import com.rentex.rental.dto.PartnerOccupancyCalendarDto;
+import com.rentex.rental.repository.RentalArchiveRepository;
+import com.rentex.rental.repository.RentalRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 파트너 월간 점유 캘린더
+ * - 해당 월과 겹치는 파트너 대여를 운영/보관 테이블에서 한 번씩 조회(findAllByPartnerOverlapping)하고,
+ *   (보관 이동된 반납 완료 대여도 점유로 센다) 장비별 int[] 차분 배열에 시작(+q)/종료 다음날(-q)만 기록한 뒤 누적합으로 일자별 수량을 만든다.
+ * - 지난 달(말일 다음날까지 지난 달)은 더 바뀌지 않으므로 결과를 보관한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RentalCalendarService {
+
+    private static final int MAX_CACHED_MONTHS = 5_000;
+
+    private static final Set<RentalStatus> BOOKED_STATUSES = EnumSet.of(
+            RentalStatus.APPROVED, RentalStatus.SHIPPED, RentalStatus.RECEIVED,
+            RentalStatus.RETURN_REQUESTED, RentalStatus.RETURNED
+    );
+
+    private final RentalRepository rentalRepository;
+    private final RentalArchiveRepository rentalArchiveRepository;
+
+    private final Map<CacheKey, PartnerOccupancyCalendarDto> pastMonths = new ConcurrentHashMap<>();
+
+    @Transactional(readOnly = true)
+    public PartnerOccupancyCalendarDto getMonthlyCalendar(Long partnerId, YearMonth month) {
+        if (!isPast(month)) {
+            return build(partnerId, month);
+        }
+
+        CacheKey key = new CacheKey(partnerId, month);
+        PartnerOccupancyCalendarDto cached = pastMonths.get(key);
+        if (cached != null) return cached;
+
+        PartnerOccupancyCalendarDto built = build(partnerId, month);
+        if (pastMonths.size() >= MAX_CACHED_MONTHS) pastMonths.clear();
+        pastMonths.put(key, built);
+        return built;
+    }
+
+    // 말일 다음날 자동 취소/연체 처리가 끝난 뒤부터 지난 달로 본다
+    private boolean isPast(YearMonth month) {
+        return month.atEndOfMonth().plusDays(1).isBefore(LocalDate.now());
+    }
+
+    private PartnerOccupancyCalendarDto build(Long partnerId, YearMonth month) {
+        LocalDate first = month.atDay(1);
+        LocalDate last = month.atEndOfMonth();
+        int days = month.lengthOfMonth();
+
+        // 장비별 차분 배열 (길이 days + 1, 종료 다음날 감소분이 말일을 넘으면 마지막 칸에 쌓임)
+        Map<Long, Item> items = new TreeMap<>();
+        Map<Long, int[]> bookedDiff = new HashMap<>();
+        Map<Long, int[]> requestedDiff = new HashMap<>();
+
+        for (Rental r : rentalRepository.findAllByPartnerOverlapping(partnerId, first, last)) {
+            add(items, bookedDiff, requestedDiff, first, days,
+                    r.getItem(), r.getStatus(), r.getStartDate(), r.getEndDate(), r.getQuantity());
+        }
+        for (RentalArchive r : rentalArchiveRepository.findAllByPartnerOverlapping(partnerId, first, last)) {
+            add(items, bookedDiff, requestedDiff, first, days,
+                    r.getItem(), r.getStatus(), r.getStartDate(), r.getEndDate(), r.getQuantity());
+        }
+
+        List<PartnerOccupancyCalendarDto.ItemRow> rows = new ArrayList<>(items.size());
+        for (Item item : items.values()) {
+            rows.add(new PartnerOccupancyCalendarDto.ItemRow(
+                    item.getId(),
+                    item.getName(),
+                    item.getStockQuantity(),
+                    sweep(bookedDiff.get(item.getId()), days),
+                    sweep(requestedDiff.get(item.getId()), days)
+            ));
+        }
+
+        return new PartnerOccupancyCalendarDto(
+                partnerId, month.getYear(), month.getMonthValue(), first, last, rows);
+    }
+
+    // 대여 한 건을 상태에 맞는 차분 배열에 기록 (시작 +q, 종료 다음날 -q)
+    private static void add(Map<Long, Item> items, Map<Long, int[]> bookedDiff, Map<Long, int[]> requestedDiff,
+                            LocalDate first, int days,
+                            Item item, RentalStatus status, LocalDate startDate, LocalDate endDate, int quantity) {
+        Map<Long, int[]> target;
+        if (BOOKED_STATUSES.contains(status)) target = bookedDiff;
+        else if (status == RentalStatus.REQUESTED) target = requestedDiff;
+        else return;
+
+        items.putIfAbsent(item.getId(), item);
+
+        int from = (int) Math.max(0, ChronoUnit.DAYS.between(first, startDate));
+        int to = (int) Math.min(days - 1, ChronoUnit.DAYS.between(first, endDate));
+        int[] diff = target.computeIfAbsent(item.getId(), k -> new int[days + 1]);
+        diff[from] += quantity;
+        diff[to + 1] -= quantity;
+    }
+
+    // 차분 배열 → 일자별 수량 (누적합)
+    private static int[] sweep(int[] diff, int days) {
+        int[] daily = new int[days];
+        if (diff == null) return daily;
+        int running = 0;
+        for (int d = 0; d < days; d++) {
+            running += diff[d];
+            daily[d] = running;
+        }
+        return daily;
+    }
+
+    private record CacheKey(Long partnerId, YearMonth month) {}
+}
@@ -0,0 +1,39 @@
+package com.rentex.rental.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 커서 목록의 전체 건수 캐시
+ * - 깊은 페이지를 넘길 때마다 COUNT 를 다시 돌리지 않도록 조건별 건수를 짧게 보관한다.
+ * - 정확한 값이 아니라 화면 표시용 근사치이므로 TTL 동안은 갱신하지 않는다.
+ */
+@Component
+public class RentalCountCache {
+
+    private static final long TTL_MILLIS = 60_000;
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final Map<String, Entry> counts = new ConcurrentHashMap<>();
+
+    public long get(String key, LongSupplier loader) {
+        long now = System.currentTimeMillis();
+        Entry cached = counts.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.count();
+        }
+
+        long count = loader.getAsLong();
+        if (counts.size() >= MAX_ENTRIES) {
+            counts.values().removeIf(e -> e.expiresAt() <= now);
+            if (counts.size() >= MAX_ENTRIES) counts.clear();
+        }
+        counts.put(key, new Entry(count, now + TTL_MILLIS));
+        return count;
+    }
+
+    private record Entry(long count, long expiresAt) { }
+}
@@ -0,0 +1,77 @@
+package com.rentex.rental.service;
+
+import com.rentex.global.retry.RetryOnConflict;
+import com.rentex.rental.domain.ActionActor;
+import com.rentex.rental.domain.Rental;
+import com.rentex.rental.domain.RentalStatus;
+import com.rentex.rental.event.RentalChangedEvent;
+import com.rentex.rental.repository.RentalRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 기한 타이머가 발화했을 때 실행되는 대여 처리 (시스템 주체)
+ * - 타이머는 인스턴스 로컬이고 중복 발화할 수 있으므로, 모든 처리는 DB 상태를 다시 확인한 뒤 수행한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RentalDeadlineService {
+
+    private final RentalRepository rentalRepository;
+    private final RentalHistoryWriter historyWriter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 반납 안내 메일 내용 */
+    public record ReturnReminder(String email, String nickname, String itemName, LocalDate endDate) {}
+
+    /** 시작일이 지나도록 승인되지 않은 요청 자동 취소 */
+    @RetryOnConflict
+    @Transactional
+    public boolean autoCancel(Long rentalId, LocalDate today) {
+        Rental rental = rentalRepository.findById(rentalId).orElse(null);
+        if (rental == null
+                || rental.getStatus() != RentalStatus.REQUESTED
+                || !rental.getStartDate().isBefore(today)) {
+            return false;
+        }
+
+        rental.changeStatus(RentalStatus.CANCELED);
+        historyWriter.append(rental, RentalStatus.REQUESTED, RentalStatus.CANCELED,
+                ActionActor.SYSTEM,
+                "대여 시작일(" + rental.getStartDate() + ")까지 승인되지 않아 자동 취소",
+                null
+        );
+        eventPublisher.publishEvent(RentalChangedEvent.from(rental));
+        return true;
+    }
+
+    /**
+     * 반납 안내 발송 대상이면 발송 기록을 남기고 메일 내용을 돌려준다.
+     * 기록 후 발송하므로 발송 실패 시 재발송되지 않는다 (최대 1회).
+     */
+    @RetryOnConflict
+    @Transactional
+    public Optional<ReturnReminder> claimReturnReminder(Long rentalId, LocalDate today) {
+        Rental rental = rentalRepository.findById(rentalId).orElse(null);
+        if (rental == null
+                || rental.getStatus() != RentalStatus.RECEIVED
+                || rental.isOverdue()
+                || rental.getReturnRemindedAt() != null
+                || rental.getEndDate().isBefore(today)) {
+            return Optional.empty();
+        }
+
+        rental.markReturnReminded();
+        return Optional.of(new ReturnReminder(
+                rental.getUser().getEmail(),
+                rental.getUser().getNickname(),
+                rental.getItem().getName(),
+                rental.getEndDate()
+        ));
+    }
+}
@@ -0,0 +1,473 @@
+package com.rentex.rental.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rentex.rental.domain.ActionActor;
+import com.rentex.rental.domain.Rental;
+import com.rentex.rental.domain.RentalHistory;
+import com.rentex.rental.domain.RentalStatus;
+import com.rentex.rental.dto.RentalHistoryEntry;
+import com.rentex.rental.repository.RentalHistoryRepository;
+import com.rentex.rental.repository.RentalRepository;
+import com.rentex.user.domain.User;
+import com.rentex.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 대여 이력 비동기 기록기 (write-behind)
+ * - 상태 전이 트랜잭션에서는 이력을 메모리에 모았다가 커밋 직전 로컬 로그 파일에 한 줄로 기록하고 fsync 한다.
+ *   동시에 커밋하는 트랜잭션들은 한 번의 fsync 를 공유한다 (group commit).
+ * - 커밋된 이력은 RentalHistoryFlushScheduler 가 주기적으로 모아 rental_history 에 배치 INSERT 한다.
+ * - 아직 DB 에 반영되지 않은 이력은 pendingFor() 로 조회해 read-your-writes 를 보장한다.
+ * - 재시작 시 로그를 다시 읽어 미반영분을 적재한다. entry_key 로 중복 저장을 막는다.
+ * - flush 후 로그가 checkpoint-bytes 를 넘으면 진행 중 / 미반영 이력만 새 파일에 담아 교체한다 (checkpoint).
+ *   쓰기가 끊이지 않아 로그를 통째로 비울 순간이 없어도 로그 크기와 재시작 시 재생량이 제한된다.
+ *
+ * ⚠️ 로그와 미반영 버퍼는 인스턴스 로컬이다. 다른 인스턴스의 미반영분은 flush 이후에 보인다.
+ */
+@Slf4j
+@Component
+public class RentalHistoryWriter {
+
+    private static final String PREPARE = "PREPARE";
+    private static final String COMMIT = "COMMIT";
+    private static final String ABORT = "ABORT";
+
+    // 한 트랜잭션으로 저장할 최대 이력 수
+    private static final int FLUSH_CHUNK = 500;
+
+    private final RentalHistoryRepository rentalHistoryRepository;
+    private final RentalRepository rentalRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Path logPath;
+    private final long checkpointBytes;
+
+    // 로그 쓰기 / 버퍼 갱신은 writeLock, fsync 는 syncLock
+    private final Object writeLock = new Object();
+    private final Object syncLock = new Object();
+    private final Object flushLock = new Object();
+
+    private FileChannel channel;
+    private long writtenPosition;
+    private volatile long syncedPosition;
+    private long checkpointSize; // 마지막 checkpoint 직후 로그 크기
+
+    // 커밋 직전 로그에 기록했지만 아직 결과(COMMIT/ABORT)를 모르는 트랜잭션 (checkpoint 시 다시 기록)
+    private final Map<String, List<RentalHistoryEntry>> openTx = new LinkedHashMap<>();
+    // 커밋되었지만 아직 DB 에 반영되지 않은 이력 (커밋 순서)
+    private final List<RentalHistoryEntry> committed = new ArrayList<>();
+    // 재시작 시 결과 기록 없이 남아 있던 트랜잭션의 이력 (기동 완료 후 DB 상태로 판정)
+    private final List<RentalHistoryEntry> inDoubt = new ArrayList<>();
+
+    public RentalHistoryWriter(RentalHistoryRepository rentalHistoryRepository,
+                               RentalRepository rentalRepository,
+                               UserRepository userRepository,
+                               TransactionTemplate transactionTemplate,
+                               ObjectMapper objectMapper,
+                               @Value("${rental.history.log-path:./data/rental-history.log}") String logPath,
+                               @Value("${rental.history.checkpoint-bytes:1048576}") long checkpointBytes) {
+        this.rentalHistoryRepository = rentalHistoryRepository;
+        this.rentalRepository = rentalRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.logPath = Paths.get(logPath).toAbsolutePath();
+        this.checkpointBytes = checkpointBytes;
+    }
+
+    /** 로그 파일을 열고 이전 실행에서 남은 기록을 복구한다 */
+    @PostConstruct
+    void open() throws IOException {
+        Files.createDirectories(logPath.getParent());
+        if (Files.exists(logPath)) {
+            recover();
+        }
+        channel = FileChannel.open(logPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        writtenPosition = channel.size();
+        syncedPosition = writtenPosition;
+        checkpointSize = writtenPosition;
+    }
+
+    @PreDestroy
+    void close() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("종료 중 대여 이력 반영 실패 (다음 기동 시 로그에서 복구): {}", e.getMessage());
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("대여 이력 로그 닫기 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 상태 전이 이력 기록. 트랜잭션 안이면 커밋 시점에, 밖이면 즉시 로그에 남긴다.
+     * actorUser 는 영속 상태가 아니어도 된다 (id / 닉네임만 사용).
+     */
+    public void append(Rental rental, RentalStatus from, RentalStatus to,
+                       ActionActor actor, String description, User actorUser) {
+        RentalHistoryEntry entry = new RentalHistoryEntry(
+                UUID.randomUUID().toString(),
+                rental.getId(),
+                from,
+                to,
+                actor,
+                description,
+                actorUser != null ? actorUser.getId() : null,
+                actorUser != null ? actorUser.getNickname() : null,
+                LocalDateTime.now()
+        );
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            String txKey = UUID.randomUUID().toString();
+            prepare(txKey, List.of(entry));
+            complete(txKey, List.of(entry), true);
+            return;
+        }
+
+        TransactionBuffer buffer = (TransactionBuffer) TransactionSynchronizationManager.getResource(this);
+        if (buffer == null) {
+            buffer = new TransactionBuffer();
+            TransactionSynchronizationManager.bindResource(this, buffer);
+            TransactionSynchronizationManager.registerSynchronization(buffer);
+        }
+        buffer.entries.add(entry);
+    }
+
+    /** 아직 DB 에 반영되지 않은 해당 대여의 이력 (커밋 순서) */
+    public List<RentalHistoryEntry> pendingFor(Long rentalId) {
+        synchronized (writeLock) {
+            return committed.stream()
+                    .filter(e -> e.rentalId().equals(rentalId))
+                    .toList();
+        }
+    }
+
+    /** 재시작 전 결과가 기록되지 않은 이력을 판정한 뒤 바로 반영 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resolveInDoubt() {
+        List<RentalHistoryEntry> candidates;
+        synchronized (writeLock) {
+            candidates = List.copyOf(inDoubt);
+            inDoubt.clear();
+        }
+        if (!candidates.isEmpty()) {
+            // 커밋됐다면 대여가 해당 상태로 바뀌어 있다
+            Map<Long, RentalStatus> current = transactionTemplate.execute(status ->
+                    rentalRepository.findAllById(candidates.stream().map(RentalHistoryEntry::rentalId).collect(Collectors.toSet()))
+                            .stream()
+                            .collect(Collectors.toMap(Rental::getId, Rental::getStatus)));
+            List<RentalHistoryEntry> accepted = candidates.stream()
+                    .filter(e -> e.toStatus() == current.get(e.rentalId()))
+                    .toList();
+            synchronized (writeLock) {
+                committed.addAll(0, accepted);
+            }
+            log.info("대여 이력 로그 복구: 판정 대기 {}건 중 {}건 반영", candidates.size(), accepted.size());
+        }
+        flush();
+    }
+
+    /**
+     * 커밋된 이력을 rental_history 에 배치 저장한다.
+     * @return 저장한 이력 수
+     */
+    public int flush() {
+        synchronized (flushLock) {
+            int flushed = 0;
+            while (true) {
+                List<RentalHistoryEntry> batch;
+                synchronized (writeLock) {
+                    batch = committed.isEmpty()
+                            ? List.of()
+                            : List.copyOf(committed.subList(0, Math.min(FLUSH_CHUNK, committed.size())));
+                }
+                if (batch.isEmpty()) {
+                    checkpoint();
+                    return flushed;
+                }
+
+                store(batch);
+
+                // DB 커밋 이후에 버퍼에서 제거해야 조회 시 누락이 생기지 않는다
+                synchronized (writeLock) {
+                    committed.subList(0, batch.size()).clear();
+                }
+                flushed += batch.size();
+            }
+        }
+    }
+
+    /**
+     * 청크를 한 트랜잭션으로 저장. 데이터 문제로 실패하면 한 건씩 다시 저장하고, 그래도 실패하는 건은
+     * 로그에 남기고 건너뛴다 (한 건 때문에 뒤의 이력이 모두 막히지 않도록).
+     * 일시적 오류(연결 끊김 등)는 그대로 던져 다음 주기에 같은 청크를 다시 시도한다.
+     */
+    private void store(List<RentalHistoryEntry> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(batch));
+            return;
+        } catch (NonTransientDataAccessException e) {
+            log.warn("대여 이력 청크 저장 실패, 한 건씩 다시 저장: {}건, {}", batch.size(), e.getMostSpecificCause().getMessage());
+        }
+        for (RentalHistoryEntry entry : batch) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> insert(List.of(entry)));
+            } catch (NonTransientDataAccessException e) {
+                log.error("대여 이력 저장 불가로 건너뜀: entryKey={}, rentalId={}, {} → {}, actorUserId={}, at={}, {}",
+                        entry.entryKey(), entry.rentalId(), entry.fromStatus(), entry.toStatus(),
+                        entry.actorUserId(), entry.changedAt(), e.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+
+    private void insert(List<RentalHistoryEntry> batch) {
+        Set<Long> rentalIds = batch.stream().map(RentalHistoryEntry::rentalId).collect(Collectors.toSet());
+        Set<Long> existingRentals = new HashSet<>(rentalRepository.findExistingIds(rentalIds));
+        Set<String> alreadyStored = new HashSet<>(rentalHistoryRepository.findEntryKeysIn(
+                batch.stream().map(RentalHistoryEntry::entryKey).toList()));
+        // 처리자가 그 사이 삭제됐으면 처리자 없이 저장 (FK 실패로 청크 전체가 막히지 않도록)
+        Map<Long, User> actors = userRepository.findAllById(batch.stream()
+                        .map(RentalHistoryEntry::actorUserId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(User::getId, u -> u));
+
+        List<RentalHistory> rows = new ArrayList<>(batch.size());
+        for (RentalHistoryEntry e : batch) {
+            if (alreadyStored.contains(e.entryKey())) continue;
+            if (!existingRentals.contains(e.rentalId())) {
+                log.warn("삭제된 대여의 이력은 저장하지 않음: rentalId={}, {} → {}", e.rentalId(), e.fromStatus(), e.toStatus());
+                continue;
+            }
+            rows.add(RentalHistory.fromEntry(
+                    e,
+                    rentalRepository.getReferenceById(e.rentalId()),
+                    e.actorUserId() != null ? actors.get(e.actorUserId()) : null
+            ));
+        }
+        rentalHistoryRepository.saveAll(rows);
+    }
+
+    // === 로그 ===
+
+    /** 커밋 직전: 트랜잭션의 이력을 로그에 남기고 디스크 반영까지 기다린다 */
+    private void prepare(String txKey, List<RentalHistoryEntry> entries) {
+        long position;
+        synchronized (writeLock) {
+            position = write(new LogRecord(PREPARE, txKey, entries));
+            openTx.put(txKey, entries);
+        }
+        sync(position);
+    }
+
+    /** 트랜잭션 종료: 결과를 남기고, 커밋된 이력은 반영 대기열로 옮긴다 (fsync 하지 않음) */
+    private void complete(String txKey, List<RentalHistoryEntry> entries, boolean committedTx) {
+        synchronized (writeLock) {
+            try {
+                write(new LogRecord(committedTx ? COMMIT : ABORT, txKey, null));
+            } catch (UncheckedIOException e) {
+                log.error("대여 이력 로그 결과 기록 실패: tx={}", txKey, e);
+            }
+            openTx.remove(txKey);
+            if (committedTx) {
+                committed.addAll(entries);
+            }
+        }
+    }
+
+    // writeLock 안에서 호출
+    private long write(LogRecord record) {
+        try {
+            writtenPosition += write(channel, record);
+            return writtenPosition;
+        } catch (IOException e) {
+            throw new UncheckedIOException("대여 이력 로그 기록 실패", e);
+        }
+    }
+
+    // 로그 한 줄 기록 (기록한 바이트 수)
+    private int write(FileChannel target, LogRecord record) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(record);
+        ByteBuffer buf = ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n').flip();
+        while (buf.hasRemaining()) {
+            target.write(buf);
+        }
+        return json.length + 1;
+    }
+
+    /** position 까지 디스크에 반영. 먼저 fsync 한 스레드가 그때까지 쓰인 내용을 모두 반영한다 */
+    private void sync(long position) {
+        if (syncedPosition >= position) return;
+        synchronized (syncLock) {
+            if (syncedPosition >= position) return;
+            long target;
+            synchronized (writeLock) {
+                target = writtenPosition;
+            }
+            try {
+                channel.force(false);
+            } catch (IOException e) {
+                throw new UncheckedIOException("대여 이력 로그 fsync 실패", e);
+            }
+            syncedPosition = target;
+        }
+    }
+
+    /**
+     * 로그 정리 (flush 직후 호출)
+     * - 진행 중 / 미반영 / 판정 대기 이력이 없으면 로그를 비운다.
+     * - 남은 이력이 있어도 로그가 checkpoint-bytes (그리고 직전 checkpoint 크기의 2배)를 넘으면
+     *   남은 이력만 새 파일에 쓰고 fsync 한 뒤 원자적으로 교체한다.
+     * fsync 와 같은 순서(syncLock → writeLock)로 잠가, 교체 중에는 기록도 fsync 도 옛 파일에 닿지 않는다.
+     */
+    private void checkpoint() {
+        synchronized (syncLock) {
+            synchronized (writeLock) {
+                if (writtenPosition == 0) return;
+                try {
+                    if (openTx.isEmpty() && committed.isEmpty() && inDoubt.isEmpty()) {
+                        channel.truncate(0);
+                        writtenPosition = 0;
+                        syncedPosition = 0;
+                        checkpointSize = 0;
+                    } else if (writtenPosition >= Math.max(checkpointBytes, checkpointSize * 2)) {
+                        rewrite();
+                    }
+                } catch (IOException e) {
+                    log.warn("대여 이력 로그 정리 실패: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    // syncLock + writeLock 안에서 호출: 남은 이력만 담은 새 로그로 교체 (복구 순서 = 커밋 → 판정 대기 → 진행 중)
+    private void rewrite() throws IOException {
+        long before = writtenPosition;
+        Path temp = logPath.resolveSibling(logPath.getFileName() + ".checkpoint");
+        long size = 0;
+        try (FileChannel out = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            if (!committed.isEmpty()) {
+                String tx = "checkpoint-" + UUID.randomUUID();
+                size += write(out, new LogRecord(PREPARE, tx, List.copyOf(committed)));
+                size += write(out, new LogRecord(COMMIT, tx, null));
+            }
+            if (!inDoubt.isEmpty()) {
+                size += write(out, new LogRecord(PREPARE, "checkpoint-" + UUID.randomUUID(), List.copyOf(inDoubt)));
+            }
+            for (Map.Entry<String, List<RentalHistoryEntry>> open : openTx.entrySet()) {
+                size += write(out, new LogRecord(PREPARE, open.getKey(), open.getValue()));
+            }
+            out.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        Files.move(temp, logPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        channel.close();
+        try {
+            channel = FileChannel.open(logPath, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("대여 이력 로그 다시 열기 실패", e);
+        }
+        // 옛 파일 위치를 기다리던 fsync 는 새 파일 기준으로 다시 확인한다 (남은 기록은 이미 디스크에 있음)
+        writtenPosition = size;
+        syncedPosition = size;
+        checkpointSize = size;
+        log.info("대여 이력 로그 checkpoint: {} → {} bytes (진행 중 {}건, 미반영 {}건)",
+                before, size, openTx.size(), committed.size());
+    }
+
+    /** 이전 실행의 로그를 읽어 COMMIT 된 이력은 대기열로, 결과가 없는 이력은 판정 대기로 분류 */
+    private void recover() throws IOException {
+        Map<String, List<RentalHistoryEntry>> prepared = new LinkedHashMap<>();
+        Set<String> committedTx = new HashSet<>();
+        Set<String> abortedTx = new HashSet<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(logPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+                LogRecord record;
+                try {
+                    record = objectMapper.readValue(line, LogRecord.class);
+                } catch (IOException e) {
+                    // 기록 도중 종료된 마지막 줄
+                    log.warn("대여 이력 로그의 손상된 줄 무시: {}", e.getMessage());
+                    continue;
+                }
+                switch (record.type()) {
+                    case PREPARE -> prepared.put(record.tx(), record.entries());
+                    case COMMIT -> committedTx.add(record.tx());
+                    case ABORT -> abortedTx.add(record.tx());
+                    default -> log.warn("알 수 없는 대여 이력 로그 타입: {}", record.type());
+                }
+            }
+        }
+
+        prepared.forEach((tx, entries) -> {
+            if (committedTx.contains(tx)) committed.addAll(entries);
+            else if (!abortedTx.contains(tx)) inDoubt.addAll(entries);
+        });
+        if (!prepared.isEmpty()) {
+            log.info("대여 이력 로그 복구: 커밋 {}건, 판정 대기 {}건", committed.size(), inDoubt.size());
+        }
+    }
+
+    /** 로그 한 줄 */
+    record LogRecord(String type, String tx, List<RentalHistoryEntry> entries) {}
+
+    /** 트랜잭션 단위 이력 버퍼 */
+    private final class TransactionBuffer implements TransactionSynchronization {
+        private final String txKey = UUID.randomUUID().toString();
+        private final List<RentalHistoryEntry> entries = new ArrayList<>();
+        private boolean prepared;
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // 여기서 실패하면 트랜잭션이 롤백되므로 이력 없이 상태만 바뀌는 일은 없다
+            prepare(txKey, List.copyOf(entries));
+            prepared = true;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(RentalHistoryWriter.this);
+            if (prepared) {
+                complete(txKey, entries, status == STATUS_COMMITTED);
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.rentex.rental.service;
+
+import com.rentex.item.domain.Item;
+import com.rentex.rental.domain.RentalStatus;
+import com.rentex.rental.dto.RentalSlotDto;
+import com.rentex.rental.exception.ItemUnavailableException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 아이템 재고 선점 (인메모리)
+ * - 재고 확인과 선점을 아이템 단위 스트라이프 락 안에서 한 번에 처리해 초과 예약을 막는다.
+ * - 선점분은 트랜잭션이 끝나면(커밋/롤백) 해제된다.
+ *   커밋된 경우에는 그 시점에 RentalChangedEvent 로 가용성 인덱스에 이미 반영되어 있다.
+ * - DB 행 잠금(SELECT ... FOR UPDATE)을 쓰지 않으므로 락은 재고 계산 동안만 잡힌다.
+ *
+ * ⚠️ 인스턴스 로컬 선점이므로 다중 인스턴스 간 직렬화는 보장하지 않는다.
+ *    인덱스와 DB 의 차이는 RentalReservationReconcileScheduler 가 주기적으로 보정한다.
+ */
+@Component
+public class RentalReservationManager {
+
+    private static final int STRIPES = 64;
+
+    private final RentalAvailabilityIndex availabilityIndex;
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+    // 아직 커밋되지 않은 선점분 (itemId → 선점 목록)
+    private final Map<Long, List<RentalSlotDto>> pendingByItem = new ConcurrentHashMap<>();
+
+    public RentalReservationManager(RentalAvailabilityIndex availabilityIndex) {
+        this.availabilityIndex = availabilityIndex;
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 요청 기간 동안 quantity 만큼 재고를 선점한다. 트랜잭션 안에서 호출해야 한다.
+     *
+     * @throws ItemUnavailableException 기간 중 하루라도 보유 수량을 넘는 경우
+     */
+    public void reserve(Item item, LocalDate startDate, LocalDate endDate, int quantity) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("재고 선점은 트랜잭션 안에서만 가능합니다.");
+        }
+
+        Long itemId = item.getId();
+        RentalSlotDto hold = new RentalSlotDto(null, itemId, startDate, endDate, quantity, RentalStatus.REQUESTED);
+
+        ReentrantLock lock = lockFor(itemId);
+        lock.lock();
+        try {
+            List<RentalSlotDto> pending = pendingByItem.getOrDefault(itemId, List.of());
+            int peak = availabilityIndex.peakQuantity(
+                    itemId, startDate, endDate, RentalAvailabilityIndex.OCCUPYING_STATUSES, pending);
+
+            if (item.getStockQuantity() - peak < quantity) {
+                throw new ItemUnavailableException("재고가 부족합니다."); // OUT_OF_STOCK
+            }
+            pendingByItem.computeIfAbsent(itemId, id -> new CopyOnWriteArrayList<>()).add(hold);
+        } finally {
+            lock.unlock();
+        }
+
+        // 커밋 이벤트(afterCommit) 반영 이후 afterCompletion 에서 선점 해제
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                release(itemId, hold);
+            }
+        });
+    }
+
+    private void release(Long itemId, RentalSlotDto hold) {
+        ReentrantLock lock = lockFor(itemId);
+        lock.lock();
+        try {
+            List<RentalSlotDto> pending = pendingByItem.get(itemId);
+            if (pending == null) return;
+            pending.remove(hold);
+            if (pending.isEmpty()) pendingByItem.remove(itemId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock lockFor(Long itemId) {
+        return locks[Math.floorMod(itemId.hashCode(), STRIPES)];
+    }
+}
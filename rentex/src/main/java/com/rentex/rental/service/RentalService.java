@@ -1,23 +1,36 @@
 package com.rentex.rental.service;
 
+import com.rentex.global.retry.RetryOnConflict;
 import com.rentex.item.domain.Item;
 import com.rentex.item.repository.ItemRepository;
 import com.rentex.partner.dto.PartnerDashboardDTO;
 import com.rentex.rental.domain.ActionActor;
 import com.rentex.rental.domain.Rental;
+import com.rentex.rental.domain.RentalArchive;
 import com.rentex.rental.domain.RentalHistory;
 import com.rentex.rental.domain.RentalStatus;
 import com.rentex.rental.dto.*;
+import com.rentex.rental.event.RentalChangedEvent;
 import com.rentex.rental.exception.*;
+import com.rentex.rental.repository.RentalArchiveRepository;
+import com.rentex.rental.repository.RentalHistoryArchiveRepository;
 import com.rentex.rental.repository.RentalHistoryRepository;
+import com.rentex.rental.repository.RentalListRepository;
 import com.rentex.rental.repository.RentalRepository;
 import com.rentex.user.domain.User;
 import com.rentex.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import com.rentex.payment.domain.Payment;
 import com.rentex.payment.domain.Payment.PaymentMethod;
@@ -26,8 +39,20 @@ import com.rentex.payment.repository.PaymentRepository;
 import java.time.LocalDateTime;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -37,8 +62,29 @@ public class RentalService {
     private final ItemRepository itemRepository;
     private final RentalRepository rentalRepository;
     private final RentalHistoryRepository rentalHistoryRepository;
+    private final RentalArchiveRepository rentalArchiveRepository;
+    private final RentalListRepository rentalListRepository;
+    private final RentalHistoryArchiveRepository rentalHistoryArchiveRepository;
+    private final RentalHistoryWriter historyWriter;
     private final UserRepository userRepository;
     private final PaymentRepository paymentRepository;
+    private final RentalAvailabilityIndex availabilityIndex;
+    private final RentalAvailabilityBitmap availabilityBitmap;
+    private final RentalAvailabilityCache availabilityCache;
+    private final RentalReservationManager reservationManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final RentalCountCache rentalCountCache;
+
+    // 단순 가용성 확인에서 충돌로 보는 상태 (REQUESTED 제외)
+    private static final Set<RentalStatus> CONFIRMED_STATUSES = EnumSet.of(
+            RentalStatus.APPROVED, RentalStatus.SHIPPED, RentalStatus.RECEIVED, RentalStatus.RETURN_REQUESTED);
+
+    // 일괄 처리 1회 최대 건수
+    private static final int BULK_LIMIT = 100;
+
+    // 커서 목록 1회 최대 건수
+    private static final int CURSOR_MAX_SIZE = 100;
 
     // === 공통: actor 영속화 ===
     private User getManagedActor(User actor) {
@@ -53,6 +99,11 @@ public class RentalService {
         throw new AccessDeniedException("권한이 없습니다.");
     }
 
+    // 상태 전이 이벤트 발행 (커밋 이후 가용성 인덱스에 반영)
+    private void publishChanged(Rental rental) {
+        eventPublisher.publishEvent(RentalChangedEvent.from(rental));
+    }
+
     // --- 권한 헬퍼 (클래스 하단 getActorType() 위/아래 어느 곳이든) ---
     private boolean isAdmin(User u)   { return "ADMIN".equals(u.getRole()); }
     private boolean isPartner(User u) { return "PARTNER".equals(u.getRole()); }
@@ -78,14 +129,46 @@ public class RentalService {
     }
 
     // 대여 가능 여부 확인 API 처리
+    //  - 인메모리 인덱스 + 응답 캐시만 사용하므로 트랜잭션(커넥션)을 열지 않는다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AvailabilityResponseDto checkAvailability(Long itemId, LocalDate startDate, LocalDate endDate) {
-        List<Rental> conflicts = rentalRepository.findConflictingRentals(itemId, startDate, endDate);
-        boolean isAvailable = conflicts.isEmpty();
+        return availabilityCache.get(itemId, startDate, endDate, () -> {
+            List<RentalSlotDto> conflicts = availabilityIndex.findOverlapping(
+                    itemId, startDate, endDate, RentalAvailabilityIndex.OCCUPYING_STATUSES);
+            boolean isAvailable = conflicts.isEmpty();
+
+            return new AvailabilityResponseDto(isAvailable, conflicts.stream()
+                    .map(s -> new AvailabilityResponseDto.ConflictPeriodDto(
+                            s.rentalId(), s.startDate(), s.endDate()))
+                    .toList());
+        });
+    }
+
+    // 기간 내 빌릴 수 있는 장비 검색 (카테고리/서브카테고리 선택)
+    @Transactional(readOnly = true)
+    public List<AvailableItemDto> searchAvailableItems(LocalDate startDate, LocalDate endDate,
+                                                       Long categoryId, Long subCategoryId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("대여 수량이 올바르지 않습니다.");
+        }
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("대여 기간이 올바르지 않습니다.");
+        }
+
+        List<Long> itemIds = availabilityBitmap.findAvailableItemIds(
+                startDate, endDate, categoryId, subCategoryId, quantity);
+        if (itemIds.isEmpty()) return List.of();
 
-        return new AvailabilityResponseDto(isAvailable, conflicts.stream()
-                .map(r -> new AvailabilityResponseDto.ConflictPeriodDto(
-                        r.getId(), r.getStartDate(), r.getEndDate()))
-                .toList());
+        Map<Long, Item> items = itemRepository.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        // 비트맵 순서(id 오름차순) 유지, 그 사이 삭제된 장비는 제외
+        return itemIds.stream()
+                .map(items::get)
+                .filter(Objects::nonNull)
+                .map(item -> AvailableItemDto.of(item, item.getStockQuantity() - availabilityIndex.peakQuantity(
+                        item.getId(), startDate, endDate, RentalAvailabilityIndex.OCCUPYING_STATUSES)))
+                .toList();
     }
 
     // 대여 요청 생성 (USER 또는 ADMIN)
@@ -115,20 +198,16 @@ public class RentalService {
             throw new IllegalArgumentException("대여 수량이 올바르지 않습니다.");
         }
 
-        // ✅ 현재 대여 중 수량 합산
-        int rentedQuantity = rentalRepository.sumRentedQuantityByItemAndStatuses(
-                item,
-                List.of(RentalStatus.REQUESTED, RentalStatus.APPROVED,
-                        RentalStatus.SHIPPED, RentalStatus.RECEIVED) // RETURN_REQUESTED 제외
-        );
-
-        int availableStock = item.getStockQuantity() - rentedQuantity;
-
-        // ✅ 재고 차단
-        if (availableStock < requestDto.quantity()) {
-            throw new ItemUnavailableException("재고가 부족합니다."); // OUT_OF_STOCK
+        // (선택) 기간 유효성
+        if (requestDto.startDate() == null || requestDto.endDate() == null
+                || requestDto.endDate().isBefore(requestDto.startDate())) {
+            throw new IllegalArgumentException("대여 기간이 올바르지 않습니다.");
         }
 
+        // ✅ 재고 선점: 요청 기간 중 일자별 최대 점유 수량 기준 (부족하면 OUT_OF_STOCK)
+        //    동시 요청은 아이템 단위 락으로 직렬화되며, 선점분은 트랜잭션 종료 시 해제된다.
+        reservationManager.reserve(item, requestDto.startDate(), requestDto.endDate(), requestDto.quantity());
+
         // 생성 및 이력 기록
         Rental rental = Rental.builder()
                 .user(getManagedActor(actor))
@@ -141,10 +220,8 @@ public class RentalService {
 
         rentalRepository.save(rental);
 
-        User managedActor = getManagedActor(actor);
-        rentalHistoryRepository.save(RentalHistory.of(
-                rental, null, RentalStatus.REQUESTED, getActorType(managedActor), "대여 요청함", managedActor
-        ));
+        historyWriter.append(rental, null, RentalStatus.REQUESTED, getActorType(actor), "대여 요청함", actor);
+        publishChanged(rental);
 
         return rental;
     }
@@ -177,15 +254,13 @@ public class RentalService {
         paymentRepository.save(payment);
 
         // 히스토리: 결제는 상태 변화 없음(REQUESTED 유지)
-        rentalHistoryRepository.save(
-                RentalHistory.of(
-                        rental,
-                        rental.getStatus(),            // from: 기존 상태
-                        rental.getStatus(),            // to  : 동일 상태
-                        getActorType(managedActor),
-                        "대여 결제 완료",
-                        managedActor
-                )
+        historyWriter.append(
+                rental,
+                rental.getStatus(),            // from: 기존 상태
+                rental.getStatus(),            // to  : 동일 상태
+                getActorType(managedActor),
+                "대여 결제 완료",
+                managedActor
         );
 
         return payment;
@@ -225,6 +300,7 @@ public class RentalService {
     }
 
     // 취소 (USER, ADMIN)
+    @RetryOnConflict
     public void cancelRental(Long rentalId, User actor, String reason) {
         Rental rental = rentalRepository.findById(rentalId)
                 .orElseThrow(() -> new RentalNotFoundException("대여 요청 없음"));
@@ -239,16 +315,16 @@ public class RentalService {
         RentalStatus from = rental.getStatus();
         rental.changeStatus(RentalStatus.CANCELED);
 
-        User managedActor = getManagedActor(actor);
-        rentalHistoryRepository.save(RentalHistory.of(
-                rental, from, RentalStatus.CANCELED,
-                getActorType(managedActor),
+        historyWriter.append(rental, from, RentalStatus.CANCELED,
+                getActorType(actor),
                 "대여 요청 취소: " + reason,   // 사유 남기기
-                managedActor
-        ));
+                actor
+        );
+        publishChanged(rental);
     }
 
     // 거절 (PARTNER, ADMIN)
+    @RetryOnConflict
     public void rejectRental(Long rentalId, User actor, String reason) {
         Rental rental = rentalRepository.findById(rentalId)
                 .orElseThrow(() -> new RentalNotFoundException("대여 요청 없음"));
@@ -265,16 +341,16 @@ public class RentalService {
         RentalStatus from = rental.getStatus();
         rental.changeStatus(RentalStatus.REJECTED);
 
-        User managedActor = getManagedActor(actor);
-        rentalHistoryRepository.save(RentalHistory.of(
-                rental, from, RentalStatus.REJECTED,
-                getActorType(managedActor),
-                "대여 요청 거절: " + reason,   // 사유 남기기
-                managedActor
-        ));
+        historyWriter.append(rental, from, RentalStatus.REJECTED,
+                getActorType(actor),
+                rejectMessage(reason),   // 사유 남기기 (없으면 생략)
+                actor
+        );
+        publishChanged(rental);
     }
 
     // 대여 요청 승인 (PARTNER 또는 ADMIN)
+    @RetryOnConflict
     public void approveRental(Long rentalId, User actor) {
         Rental rental = rentalRepository.findById(rentalId)
                 .orElseThrow(() -> new RentalNotFoundException("해당 대여 요청이 존재하지 않습니다."));
@@ -285,28 +361,30 @@ public class RentalService {
             throw new InvalidRentalStateException("승인할 수 없는 상태입니다.");
         }
 
-        Item item = rental.getItem();
-        if (item.getStockQuantity() < rental.getQuantity()) {
+        // 이미 확정된(승인 이후) 대여와 합쳐 보유 수량을 넘는지 확인
+        // 장비 버전을 올려 같은 장비의 다른 대여가 동시에 승인되면 한쪽이 충돌 후 재시도하게 한다
+        Item item = itemRepository.findByIdForVersionIncrement(rental.getItem().getId())
+                .orElseThrow(() -> new ItemNotFoundException("해당 장비가 존재하지 않습니다."));
+        int confirmedPeak = confirmedPeak(item.getId(), rental, List.of());
+        if (item.getStockQuantity() - confirmedPeak < rental.getQuantity()) {
             throw new ItemUnavailableException("재고가 부족하여 승인할 수 없습니다.");
         }
 
-        item.decreaseStock(rental.getQuantity());
-
         RentalStatus from = rental.getStatus();
         rental.changeStatus(RentalStatus.APPROVED);
 
-        User managedActor = getManagedActor(actor);
-        rentalHistoryRepository.save(RentalHistory.of(
-                rental,
+        historyWriter.append(rental,
                 from,
                 RentalStatus.APPROVED,
-                getActorType(managedActor),
+                getActorType(actor),
                 "대여를 승인함",
-                managedActor
-        ));
+                actor
+        );
+        publishChanged(rental);
     }
 
     // 장비 배송 처리 (PARTNER 또는 ADMIN)
+    @RetryOnConflict
     public void shipRental(Long rentalId, User actor) {
         Rental rental = rentalRepository.findById(rentalId)
                 .orElseThrow(() -> new RentalNotFoundException("해당 대여 정보를 찾을 수 없습니다."));
@@ -320,20 +398,18 @@ public class RentalService {
         RentalStatus from = rental.getStatus();
         rental.changeStatus(RentalStatus.SHIPPED);
 
-        User managedActor = getManagedActor(actor);
-        rentalHistoryRepository.save(
-                RentalHistory.of(
-                        rental,
-                        from,
-                        RentalStatus.SHIPPED,
-                        getActorType(managedActor),
-                        "장비를 배송 처리함",
-                        managedActor
-                )
+        historyWriter.append(rental,
+                from,
+                RentalStatus.SHIPPED,
+                getActorType(actor),
+                "장비를 배송 처리함",
+                actor
         );
+        publishChanged(rental);
     }
 
     // 장비 수령 확인 (USER 또는 ADMIN)
+    @RetryOnConflict
     public void confirmReceiveRental(Long rentalId, User actor) {
         Rental rental = rentalRepository.findById(rentalId)
                 .orElseThrow(() -> new RentalNotFoundException("해당 대여 정보를 찾을 수 없습니다."));
@@ -350,20 +426,18 @@ public class RentalService {
         RentalStatus from = rental.getStatus();
         rental.receive(); // ✅ 엔티티 메서드 (status=RECEIVED, rentedAt 기록)
 
-        User managedActor = getManagedActor(actor);
-        rentalHistoryRepository.save(
-                RentalHistory.of(
-                        rental,
-                        from,
-                        RentalStatus.RECEIVED,
-                        getActorType(managedActor),
-                        "장비 수령을 확인했습니다.",
-                        managedActor
-                )
+        historyWriter.append(rental,
+                from,
+                RentalStatus.RECEIVED,
+                getActorType(actor),
+                "장비 수령을 확인했습니다.",
+                actor
         );
+        publishChanged(rental);
     }
 
     // 반납 요청 (USER 또는 ADMIN)
+    @RetryOnConflict
     public void requestReturn(Long rentalId, User actor) {
         Rental rental = rentalRepository.findById(rentalId)
                 .orElseThrow(() -> new RentalNotFoundException("해당 대여가 없습니다."));
@@ -380,18 +454,18 @@ public class RentalService {
         RentalStatus from = rental.getStatus();
         rental.changeStatus(RentalStatus.RETURN_REQUESTED);
 
-        User managedActor = getManagedActor(actor);
-        rentalHistoryRepository.save(RentalHistory.of(
-                rental,
+        historyWriter.append(rental,
                 from,
                 RentalStatus.RETURN_REQUESTED,
-                getActorType(managedActor),
+                getActorType(actor),
                 "반납을 요청했습니다.",
-                managedActor
-        ));
+                actor
+        );
+        publishChanged(rental);
     }
 
     // 반납 확정 처리 (PARTNER 또는 ADMIN)
+    @RetryOnConflict
     public void returnRental(Long rentalId, User actor) {
         Rental rental = rentalRepository.findById(rentalId)
                 .orElseThrow(() -> new RentalNotFoundException("대여 내역이 존재하지 않습니다."));
@@ -404,33 +478,164 @@ public class RentalService {
 
         rental.changeStatus(RentalStatus.RETURNED);
         rental.setReturnedAt(LocalDateTime.now());
-        rental.getItem().increaseStock(rental.getQuantity());
 
-        User managedActor = getManagedActor(actor);
-        rentalHistoryRepository.save(RentalHistory.of(
-                rental,
+        historyWriter.append(rental,
                 RentalStatus.RETURN_REQUESTED,
                 RentalStatus.RETURNED,
-                getActorType(managedActor),
+                getActorType(actor),
                 "반납을 확인하였습니다.",
-                managedActor
-        ));
+                actor
+        );
+        publishChanged(rental);
     }
 
-    // 사용자 본인의 대여 목록 조회
-    public Page<RentalResponseDto> getMyRentals(User user, RentalStatus status, Pageable pageable) {
-        Page<Rental> rentals = (status != null) ?
-                rentalRepository.findByUserIdAndStatus(user.getId(), status, pageable) :
-                rentalRepository.findByUserId(user.getId(), pageable);
+    // === 파트너 일괄 처리 (승인 / 거절 / 배송 / 반납 확정) ===
+    // 대여와 장비를 한 번에 조회하고, 건별로 검증해 가능한 건만 전이한다. 결과는 건별로 반환한다.
 
-        return rentals.map(RentalResponseDto::from);
+    @RetryOnConflict
+    public BulkRentalActionResponseDto bulkApproveRentals(List<Long> rentalIds, User actor) {
+        return bulkTransition(rentalIds, actor, RentalStatus.APPROVED, null);
+    }
+
+    @RetryOnConflict
+    public BulkRentalActionResponseDto bulkRejectRentals(List<Long> rentalIds, User actor, String reason) {
+        return bulkTransition(rentalIds, actor, RentalStatus.REJECTED, reason);
+    }
+
+    @RetryOnConflict
+    public BulkRentalActionResponseDto bulkShipRentals(List<Long> rentalIds, User actor) {
+        return bulkTransition(rentalIds, actor, RentalStatus.SHIPPED, null);
+    }
+
+    @RetryOnConflict
+    public BulkRentalActionResponseDto bulkReturnRentals(List<Long> rentalIds, User actor) {
+        return bulkTransition(rentalIds, actor, RentalStatus.RETURNED, null);
+    }
+
+    private BulkRentalActionResponseDto bulkTransition(List<Long> rentalIds, User actor,
+                                                       RentalStatus target, String reason) {
+        // 권한은 요청 단위로 한 번만 확인
+        if (!(isPartner(actor) || isAdmin(actor))) {
+            throw new AccessDeniedException("파트너/관리자만 일괄 처리할 수 있습니다.");
+        }
+        if (rentalIds == null || rentalIds.isEmpty()) {
+            throw new IllegalArgumentException("처리할 대여가 없습니다.");
+        }
+        if (rentalIds.size() > BULK_LIMIT) {
+            throw new IllegalArgumentException("한 번에 최대 " + BULK_LIMIT + "건까지 처리할 수 있습니다.");
+        }
+
+        List<Long> ids = rentalIds.stream().distinct().toList();
+        Map<Long, Rental> rentals = rentalRepository.findAllWithItemByIdIn(ids).stream()
+                .collect(Collectors.toMap(Rental::getId, Function.identity()));
+
+        ActionActor actorType = getActorType(actor);
+        // 이번 요청에서 승인한 점유분 (같은 장비의 다음 승인 재고 계산에 포함)
+        Map<Long, List<RentalSlotDto>> approvedInBatch = new HashMap<>();
+        List<BulkRentalActionResponseDto.Result> results = new ArrayList<>(ids.size());
+
+        for (Long id : ids) {
+            Rental rental = rentals.get(id);
+            if (rental == null) {
+                results.add(BulkRentalActionResponseDto.Result.failure(id, "RENTAL_NOT_FOUND", "대여 내역이 존재하지 않습니다."));
+                continue;
+            }
+            // Item.partner 는 프록시이므로 id 비교만으로는 추가 조회가 없다
+            if (!isAdmin(actor) && !rental.getItem().getPartner().getId().equals(actor.getId())) {
+                results.add(BulkRentalActionResponseDto.Result.failure(id, "FORBIDDEN", "해당 파트너 소속 장비에만 수행할 수 있습니다."));
+                continue;
+            }
+
+            RentalStatus from = rental.getStatus();
+            if (from != requiredStatusFor(target)) {
+                results.add(BulkRentalActionResponseDto.Result.failure(id, "INVALID_RENTAL_STATE",
+                        "'" + from.getLabel() + "' 상태에서는 처리할 수 없습니다."));
+                continue;
+            }
+
+            if (target == RentalStatus.APPROVED) {
+                Item item = rental.getItem();
+                List<RentalSlotDto> batch = approvedInBatch.computeIfAbsent(item.getId(), k -> new ArrayList<>());
+                int confirmedPeak = confirmedPeak(item.getId(), rental, batch);
+                if (item.getStockQuantity() - confirmedPeak < rental.getQuantity()) {
+                    results.add(BulkRentalActionResponseDto.Result.failure(id, "ITEM_UNAVAILABLE", "재고가 부족하여 승인할 수 없습니다."));
+                    continue;
+                }
+                // 단건 승인과 같이 장비 버전을 올려 동시 승인과 충돌을 감지한다 (장비당 한 번)
+                if (batch.isEmpty()) {
+                    entityManager.lock(item, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+                }
+                batch.add(new RentalSlotDto(rental.getId(), item.getId(),
+                        rental.getStartDate(), rental.getEndDate(), rental.getQuantity(), RentalStatus.APPROVED));
+            }
+
+            rental.changeStatus(target);
+            if (target == RentalStatus.RETURNED) {
+                rental.setReturnedAt(LocalDateTime.now());
+            }
+
+            historyWriter.append(rental, from, target, actorType, bulkHistoryMessage(target, reason), actor);
+            publishChanged(rental);
+            results.add(BulkRentalActionResponseDto.Result.success(id, target));
+        }
+
+        return BulkRentalActionResponseDto.of(results);
+    }
+
+    /**
+     * 승인 재고 확인용 확정 점유 peak (DB 기준)
+     * - 인메모리 인덱스는 커밋 이후 리스너에서야 바뀌고 다른 인스턴스의 승인은 모르므로 승인 판단에 쓰지 않는다.
+     * - 장비 버전 강제 증가와 함께 쓰면, 동시 승인의 패자는 충돌 후 새 트랜잭션에서 승자의 커밋까지 보고 다시 계산한다.
+     */
+    private int confirmedPeak(Long itemId, Rental rental, Collection<RentalSlotDto> pending) {
+        // 같은 트랜잭션에서 이미 승인한 건은 조회 전 flush 로 결과에 섞여 나오므로 pending 쪽만 센다
+        Set<Long> pendingIds = pending.stream().map(RentalSlotDto::rentalId).collect(Collectors.toSet());
+        List<RentalSlotDto> confirmed = rentalRepository.findOverlappingSlots(
+                        itemId, rental.getStartDate(), rental.getEndDate(), CONFIRMED_STATUSES).stream()
+                .filter(s -> !pendingIds.contains(s.rentalId()))
+                .toList();
+        return RentalAvailabilityIndex.ItemSlots.of(confirmed)
+                .peakQuantity(rental.getStartDate(), rental.getEndDate(), CONFIRMED_STATUSES, pending);
+    }
+
+    // 일괄 처리 대상 상태별 선행 상태
+    private RentalStatus requiredStatusFor(RentalStatus target) {
+        return switch (target) {
+            case APPROVED, REJECTED -> RentalStatus.REQUESTED;
+            case SHIPPED -> RentalStatus.APPROVED;
+            case RETURNED -> RentalStatus.RETURN_REQUESTED;
+            default -> throw new IllegalArgumentException("일괄 처리할 수 없는 상태입니다: " + target);
+        };
+    }
+
+    // 단건 처리와 같은 이력 문구
+    private String bulkHistoryMessage(RentalStatus target, String reason) {
+        return switch (target) {
+            case APPROVED -> "대여를 승인함";
+            case REJECTED -> rejectMessage(reason);
+            case SHIPPED -> "장비를 배송 처리함";
+            case RETURNED -> "반납을 확인하였습니다.";
+            default -> target.getLabel();
+        };
+    }
+
+    // 거절 이력 문구 (사유가 비어 있으면 "null" 대신 문구만)
+    private String rejectMessage(String reason) {
+        return (reason == null || reason.isBlank()) ? "대여 요청 거절" : "대여 요청 거절: " + reason.trim();
+    }
+
+    // 사용자 본인의 대여 목록 조회 (보관 이동된 대여 포함)
+    public Page<RentalResponseDto> getMyRentals(User user, RentalStatus status, Pageable pageable) {
+        return pageWithArchive(user.getId(), status, pageable);
     }
 
     // 대여 상세 조회 (본인만 가능, 단 ADMIN은 전체 가능)
     @Transactional(readOnly = true)
     public RentalResponseDto getRentalDetail(Long rentalId, User actor) {
-        Rental rental = rentalRepository.findById(rentalId)
-                .orElseThrow(() -> new RentalNotFoundException("대여 내역을 찾을 수 없습니다."));
+        Rental rental = rentalRepository.findById(rentalId).orElse(null);
+        if (rental == null) {
+            return getArchivedRentalDetail(rentalId, actor);
+        }
 
         if (!rental.getUser().getId().equals(actor.getId())
                 && !"ADMIN".equals(actor.getRole())) {
@@ -440,37 +645,107 @@ public class RentalService {
         return RentalResponseDto.from(rental);
     }
 
+    // 보관 이동된 대여 상세 (본인 or ADMIN)
+    private RentalResponseDto getArchivedRentalDetail(Long rentalId, User actor) {
+        RentalArchive archived = rentalArchiveRepository.findById(rentalId)
+                .orElseThrow(() -> new RentalNotFoundException("대여 내역을 찾을 수 없습니다."));
+
+        if (!archived.getUser().getId().equals(actor.getId()) && !isAdmin(actor)) {
+            throw new AccessDeniedException("접근 권한이 없습니다.");
+        }
+        return RentalResponseDto.from(archived);
+    }
+
     // 대여 가능 여부 단순 확인
     public AvailabilityResponseDto checkItemAvailability(Long itemId, LocalDate startDate, LocalDate endDate) {
-        boolean existsConflict = rentalRepository.existsConflictingRental(itemId, startDate, endDate);
+        boolean existsConflict = availabilityIndex.hasOverlap(itemId, startDate, endDate, CONFIRMED_STATUSES);
         return new AvailabilityResponseDto(!existsConflict, Collections.emptyList());
     }
 
     // 특정 대여의 히스토리 리스트 조회
     public List<RentalHistoryResponseDto> getRentalHistory(Long rentalId, User actor) {
-        Rental r = rentalRepository.findById(rentalId)
-                .orElseThrow(() -> new RentalNotFoundException("대여 내역이 존재하지 않습니다."));
+        // 아직 DB 에 반영되지 않은 이력을 첫 조회 전에 확보해야 flush 와 겹쳐도 누락되지 않는다 (중복은 entryKey 로 제거)
+        List<RentalHistoryEntry> pending = historyWriter.pendingFor(rentalId);
+
+        Rental r = rentalRepository.findById(rentalId).orElse(null);
+        if (r == null) {
+            return getArchivedRentalHistory(rentalId, actor);
+        }
         // 본인 or ADMIN or 소유 파트너
         try { requireOwnerUserOrAdmin(r, actor); }
         catch (AccessDeniedException e) { requireOwnerPartnerOrAdmin(r, actor); }
-        return rentalHistoryRepository.findByRentalOrderByCreatedAtAsc(rentalId)
-                .stream().map(RentalHistoryResponseDto::from).toList();
+
+        List<RentalHistory> stored = rentalHistoryRepository.findByRentalOrderByCreatedAtAsc(rentalId);
+        Set<String> storedKeys = stored.stream()
+                .map(RentalHistory::getEntryKey)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        return Stream.concat(
+                stored.stream().map(RentalHistoryResponseDto::from),
+                pending.stream()
+                        .filter(e -> !storedKeys.contains(e.entryKey()))
+                        .map(RentalHistoryResponseDto::from)
+        ).toList();
     }
 
-    // 전체 대여 목록 조회 (관리자용)
+    // 보관 이동된 대여의 히스토리 (보관 시점에 모든 이력이 DB 에 반영되어 있으므로 대기분 병합 불필요)
+    private List<RentalHistoryResponseDto> getArchivedRentalHistory(Long rentalId, User actor) {
+        RentalArchive archived = rentalArchiveRepository.findById(rentalId)
+                .orElseThrow(() -> new RentalNotFoundException("대여 내역이 존재하지 않습니다."));
+
+        // 본인 or ADMIN or 소유 파트너
+        boolean owner = archived.getUser().getId().equals(actor.getId());
+        boolean ownerPartner = isPartner(actor) && archived.getItem().getPartner().getId().equals(actor.getId());
+        if (!owner && !ownerPartner && !isAdmin(actor)) {
+            throw new AccessDeniedException("접근 권한이 없습니다.");
+        }
+
+        return rentalHistoryArchiveRepository.findByRentalIdOrderByCreatedAtAsc(rentalId).stream()
+                .map(h -> RentalHistoryResponseDto.from(h, archived))
+                .toList();
+    }
+
+    // 전체 대여 목록 조회 (관리자용, 보관 이동된 대여 포함)
     public Page<RentalResponseDto> getAllRentals(RentalStatus status, Pageable pageable) {
-        Page<Rental> rentals = (status != null)
-                ? rentalRepository.findAllByStatus(status, pageable)
-                : rentalRepository.findAll(pageable);
+        return pageWithArchive(null, status, pageable);
+    }
 
-        return rentals.map(RentalResponseDto::from);
+    /**
+     * 운영 + 보관 테이블 통합 페이지
+     * - 페이지에 들어갈 행(id, 출처)은 DB 에서 정렬 키만으로 정하고, 그 행만 엔티티 그래프로 읽어 DTO 로 바꾼다.
+     *   (페이지 깊이와 상관없이 DTO 변환은 size 건)
+     * - 두 조회 사이에 보관 이동된 행은 보관 테이블에서 찾는다.
+     */
+    private Page<RentalResponseDto> pageWithArchive(Long userId, RentalStatus status, Pageable pageable) {
+        List<RentalListRepository.Ref> refs = rentalListRepository.findPage(userId, status, pageable);
+
+        Map<Long, RentalResponseDto> rows = new HashMap<>();
+        List<Long> hotIds = refs.stream().filter(r -> !r.archived()).map(RentalListRepository.Ref::id).toList();
+        if (!hotIds.isEmpty()) {
+            rentalRepository.findAllForListByIdIn(hotIds)
+                    .forEach(r -> rows.put(r.getId(), RentalResponseDto.from(r)));
+        }
+        List<Long> archivedIds = refs.stream().map(RentalListRepository.Ref::id)
+                .filter(id -> !rows.containsKey(id)).toList();
+        if (!archivedIds.isEmpty()) {
+            rentalArchiveRepository.findAllForListByIdIn(archivedIds)
+                    .forEach(r -> rows.put(r.getId(), RentalResponseDto.from(r)));
+        }
+
+        List<RentalResponseDto> content = refs.stream()
+                .map(r -> rows.get(r.id()))
+                .filter(Objects::nonNull)
+                .toList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> rentalListRepository.count(userId, status));
     }
 
     // 특정 유저가 대여한 장비 목록 조회
     @Transactional(readOnly = true)
     public List<Item> getItemsRentedByUser(Long userId) {
-        return rentalRepository.findByUserId(userId).stream()
-                .map(Rental::getItem)
+        return Stream.concat(
+                        rentalRepository.findByUserId(userId).stream().map(Rental::getItem),
+                        rentalArchiveRepository.findByUserId(userId).stream().map(RentalArchive::getItem))
                 .distinct()
                 .toList();
     }
@@ -520,10 +795,7 @@ public class RentalService {
     // 파트너 및 관리자 전용: 상태별 대여 내역 전체 조회
     public Page<RentalResponseDto> getAllPartnerRentals(User loginUser, RentalStatus status, Pageable pageable) {
         if ("ADMIN".equals(loginUser.getRole())) {
-            Page<Rental> rentals = (status != null)
-                    ? rentalRepository.findAllByStatus(status, pageable)
-                    : rentalRepository.findAll(pageable);
-            return rentals.map(RentalResponseDto::from);
+            return getAllRentals(status, pageable);
 
         } else if ("PARTNER".equals(loginUser.getRole())) {
             return rentalRepository.findByPartnerItemAndStatus(loginUser.getId(), status, pageable)
@@ -533,6 +805,128 @@ public class RentalService {
         }
     }
 
+    // === 커서(keyset) 기반 목록: (createdAt, id) 내림차순, OFFSET / COUNT 없이 어느 깊이든 같은 비용 ===
+
+    // 사용자 본인의 대여 목록 (커서)
+    @Transactional(readOnly = true)
+    public RentalCursorSliceDto getMyRentalsByCursor(User user, RentalStatus status,
+                                                     String cursor, int size, boolean withTotal) {
+        RentalCursor c = RentalCursor.decode(cursor);
+        Slice<Rental> slice = rentalRepository.findSliceByUserId(
+                user.getId(), status, cursorAt(c), cursorId(c), cursorPage(size));
+        Slice<RentalArchive> archived = rentalArchiveRepository.findSliceByUserId(
+                user.getId(), status, cursorAt(c), cursorId(c), cursorPage(size));
+
+        return toCursorSlice(slice, archived, withTotal, "me:" + user.getId() + ":" + status, () -> status != null
+                ? rentalRepository.countByUserIdAndStatus(user.getId(), status)
+                        + rentalArchiveRepository.countByUserIdAndStatus(user.getId(), status)
+                : rentalRepository.countByUserId(user.getId())
+                        + rentalArchiveRepository.countByUserId(user.getId()));
+    }
+
+    // 전체 대여 목록 (관리자용, 커서)
+    @Transactional(readOnly = true)
+    public RentalCursorSliceDto getAllRentalsByCursor(RentalStatus status, String cursor, int size, boolean withTotal) {
+        RentalCursor c = RentalCursor.decode(cursor);
+        Slice<Rental> slice = rentalRepository.findSliceAll(status, cursorAt(c), cursorId(c), cursorPage(size));
+        Slice<RentalArchive> archived = rentalArchiveRepository.findSliceAll(
+                status, cursorAt(c), cursorId(c), cursorPage(size));
+
+        return toCursorSlice(slice, archived, withTotal, "all:" + status, () -> status != null
+                ? rentalRepository.countByStatus(status) + rentalArchiveRepository.countByStatus(status)
+                : rentalRepository.count() + rentalArchiveRepository.count());
+    }
+
+    // 파트너 전용: 자기 소속 아이템 대여 요청 (커서, 상태 기본값 REQUESTED)
+    @Transactional(readOnly = true)
+    public RentalCursorSliceDto getPartnerRentalRequestsByCursor(User actor, RentalStatus status,
+                                                                 String cursor, int size, boolean withTotal) {
+        RentalStatus target = status != null ? status : RentalStatus.REQUESTED;
+        if ("ADMIN".equals(actor.getRole())) {
+            return getAllRentalsByCursor(target, cursor, size, withTotal);
+        }
+        if (!"PARTNER".equals(actor.getRole())) {
+            throw new AccessDeniedException("파트너 권한이 필요합니다.");
+        }
+        return getPartnerRentalsByCursor(actor.getId(), target, cursor, size, withTotal);
+    }
+
+    // 파트너 및 관리자용: 대여 상태 전체 보기 (커서)
+    @Transactional(readOnly = true)
+    public RentalCursorSliceDto getAllPartnerRentalsByCursor(User loginUser, RentalStatus status,
+                                                             String cursor, int size, boolean withTotal) {
+        if ("ADMIN".equals(loginUser.getRole())) {
+            return getAllRentalsByCursor(status, cursor, size, withTotal);
+        } else if ("PARTNER".equals(loginUser.getRole())) {
+            return getPartnerRentalsByCursor(loginUser.getId(), status, cursor, size, withTotal);
+        } else {
+            throw new AccessDeniedException("접근 권한이 없습니다.");
+        }
+    }
+
+    private RentalCursorSliceDto getPartnerRentalsByCursor(Long partnerId, RentalStatus status,
+                                                           String cursor, int size, boolean withTotal) {
+        RentalCursor c = RentalCursor.decode(cursor);
+        Slice<Rental> slice = rentalRepository.findSliceByPartnerId(
+                partnerId, status, cursorAt(c), cursorId(c), cursorPage(size));
+
+        return toCursorSlice(slice, withTotal, "partner:" + partnerId + ":" + status, () -> status != null
+                ? rentalRepository.countByItemPartnerIdAndStatus(partnerId, status)
+                : rentalRepository.countByItemPartnerId(partnerId));
+    }
+
+    // 정렬은 쿼리에 고정되어 있으므로 크기만 전달 (Slice 는 size + 1 건으로 다음 페이지 여부 판단)
+    private Pageable cursorPage(int size) {
+        return PageRequest.of(0, Math.max(1, Math.min(size, CURSOR_MAX_SIZE)));
+    }
+
+    private LocalDateTime cursorAt(RentalCursor c) { return c != null ? c.createdAt() : null; }
+    private Long cursorId(RentalCursor c)          { return c != null ? c.id() : null; }
+
+    private RentalCursorSliceDto toCursorSlice(Slice<Rental> slice, boolean withTotal,
+                                               String countKey, LongSupplier counter) {
+        List<Rental> rows = slice.getContent();
+        String nextCursor = slice.hasNext() && !rows.isEmpty()
+                ? RentalCursor.of(rows.get(rows.size() - 1)).encode()
+                : null;
+        Long total = withTotal ? rentalCountCache.get(countKey, counter) : null;
+
+        return new RentalCursorSliceDto(
+                rows.stream().map(RentalResponseDto::from).toList(),
+                slice.getSize(),
+                slice.hasNext(),
+                nextCursor,
+                total
+        );
+    }
+
+    // 운영/보관 두 슬라이스를 같은 (createdAt, id) 내림차순으로 병합해 size 건만 돌려준다
+    //  - 두 테이블의 id 는 겹치지 않으므로 같은 커서로 이어 읽어도 중복/누락이 없다
+    private RentalCursorSliceDto toCursorSlice(Slice<Rental> slice, Slice<RentalArchive> archived, boolean withTotal,
+                                               String countKey, LongSupplier counter) {
+        if (archived.getContent().isEmpty() && !archived.hasNext()) {
+            return toCursorSlice(slice, withTotal, countKey, counter);
+        }
+
+        int size = slice.getSize();
+        List<RentalResponseDto> merged = Stream.concat(
+                        slice.getContent().stream().map(RentalResponseDto::from),
+                        archived.getContent().stream().map(RentalResponseDto::from))
+                .sorted(Comparator.comparing(RentalResponseDto::createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparing(RentalResponseDto::id)
+                        .reversed())
+                .toList();
+        boolean hasNext = merged.size() > size || slice.hasNext() || archived.hasNext();
+        List<RentalResponseDto> rows = merged.subList(0, Math.min(size, merged.size()));
+
+        String nextCursor = hasNext && !rows.isEmpty()
+                ? new RentalCursor(rows.get(rows.size() - 1).createdAt(), rows.get(rows.size() - 1).id()).encode()
+                : null;
+        Long total = withTotal ? rentalCountCache.get(countKey, counter) : null;
+
+        return new RentalCursorSliceDto(rows, size, hasNext, nextCursor, total);
+    }
+
 
     @Transactional(readOnly = true)
     public PartnerDashboardDTO getDashboard(Long partnerId) {
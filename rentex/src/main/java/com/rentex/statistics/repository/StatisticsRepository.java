@@ -19,6 +19,8 @@ public class StatisticsRepository {
 
     private final NamedParameterJdbcTemplate jdbc;
 
+    // 정산/매출은 보관 이동된 대여까지 포함해야 하므로 rental 대신 rental_all 뷰(rental + rental_archive)를 읽는다
+
     // 필요 시 상태값 수정
     private static final String STATUS_FILTER = "('APPROVED','RENTED','RETURN_REQUESTED','RETURNED')";
 
@@ -47,7 +49,7 @@ public class StatisticsRepository {
           ), 0) AS totalRevenue
         FROM users u
         JOIN item i   ON i.partner_id = u.id
-        JOIN rental r ON r.item_id = i.id
+        JOIN rental_all r ON r.item_id = i.id
         WHERE u.role = 'PARTNER'
           AND LEAST(DATE(r.end_date), DATE(:to)) >= GREATEST(DATE(r.start_date), DATE(:from))
           AND r.status IN """ + STATUS_FILTER + """
@@ -89,7 +91,7 @@ public class StatisticsRepository {
                  GREATEST(0, DATEDIFF(LEAST(DATE(r.end_date), DATE(:to)), GREATEST(DATE(r.start_date), DATE(:from))) + 1)
               ), 0) AS amount
             FROM item i
-            JOIN rental r ON r.item_id = i.id
+            JOIN rental_all r ON r.item_id = i.id
             WHERE i.partner_id = :partnerId
               AND LEAST(DATE(r.end_date), DATE(:to)) >= GREATEST(DATE(r.start_date), DATE(:from))
               AND r.status IN """ + STATUS_FILTER + """
@@ -152,7 +154,7 @@ public class StatisticsRepository {
                  GREATEST(0, DATEDIFF(LEAST(DATE(r.end_date), DATE(:to)), GREATEST(DATE(r.start_date), DATE(:from))) + 1)
               ), 0) AS amount
             FROM item i
-            JOIN rental r ON r.item_id = i.id
+            JOIN rental_all r ON r.item_id = i.id
             WHERE i.partner_id = :partnerId
               AND LEAST(DATE(r.end_date), DATE(:to)) >= GREATEST(DATE(r.start_date), DATE(:from))
               AND r.status IN """ + STATUS_FILTER + """
@@ -180,7 +182,7 @@ public class StatisticsRepository {
         String sql = """
             SELECT COUNT(DISTINCT r.id) AS cnt
             FROM item i
-            JOIN rental r ON r.item_id = i.id
+            JOIN rental_all r ON r.item_id = i.id
             WHERE i.partner_id = :partnerId
               AND LEAST(DATE(r.end_date), DATE(:to)) >= GREATEST(DATE(r.start_date), DATE(:from))
               AND r.status IN """ + STATUS_FILTER + """
@@ -201,7 +203,7 @@ public class StatisticsRepository {
             GREATEST(0, DATEDIFF(DATE(r.end_date), DATE(r.start_date)) + 1)
         ), 0) AS total
         FROM item i
-        JOIN rental r ON r.item_id = i.id
+        JOIN rental_all r ON r.item_id = i.id
         WHERE i.partner_id = :partnerId
           AND r.status IN """ + STATUS_FILTER + """
     """;
@@ -229,7 +231,7 @@ public class StatisticsRepository {
                    )
                ), 0) * 0.3 AS revenue
         FROM month_range mr
-        LEFT JOIN rental r 
+        LEFT JOIN rental_all r 
                ON r.status IN """ + STATUS_FILTER + """
               AND LEAST(DATE(r.end_date), DATE(:to)) >= GREATEST(DATE(r.start_date), mr.month_start)
         LEFT JOIN item i ON r.item_id = i.id
@@ -261,7 +263,7 @@ public class StatisticsRepository {
           ), 0) AS totalRevenue
         FROM users u
         LEFT JOIN item i   ON i.partner_id = u.id
-        LEFT JOIN rental r ON r.item_id = i.id
+        LEFT JOIN rental_all r ON r.item_id = i.id
         WHERE u.role = 'PARTNER'
           AND r.id IS NOT NULL
           AND LEAST(DATE(r.end_date), DATE(:to)) >= GREATEST(DATE(r.start_date), DATE(:from))
@@ -5,6 +5,7 @@ import com.rentex.user.domain.User;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -145,6 +146,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query(value = "UPDATE users SET penalty_points = COALESCE(penalty_points,0) + :delta WHERE id = :id", nativeQuery = true)
     int increasePenaltyPoints(@Param("id") Long userId, @Param("delta") int delta);
 
+    /** 여러 사용자에게 같은 벌점을 한 번에 가산 (연체 감지 배치용) */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = "UPDATE users SET penalty_points = COALESCE(penalty_points,0) + :delta WHERE id IN (:ids)", nativeQuery = true)
+    int increasePenaltyPointsIn(@Param("ids") Collection<Long> userIds, @Param("delta") int delta);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query(value = "UPDATE users SET penalty_points = GREATEST(0, COALESCE(penalty_points,0) - :delta) WHERE id = :id", nativeQuery = true)
     int decreasePenaltyPoints(@Param("id") Long userId, @Param("delta") int delta);
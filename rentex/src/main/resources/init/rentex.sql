@@ -64,6 +64,54 @@ SET @sql := IF(@has_fk_users = 0,
 'SELECT 1');
 PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
 
+/* 0-4. 시퀀스 ID(rental_history / payment / penalty)를 기존 AUTO_INCREMENT 최대값 이후로 맞춤
+   - pooled(50 단위) 할당은 NEXTVAL 값 v 에 대해 (v-49 ~ v) 구간을 쓰므로 SETVAL(seq, MAX(id)) 로 두면
+     다음 NEXTVAL = MAX(id) + 50 → 새 ID 는 MAX(id) + 1 부터 시작
+   - SETVAL 은 현재 값보다 작으면 무시되므로 재실행해도 안전 */
+SET @sql := IF((SELECT COUNT(*) FROM information_schema.tables
+                WHERE table_schema = DATABASE() AND table_name = 'rental_history_seq') = 1,
+               CONCAT('SELECT SETVAL(`rental_history_seq`, ', (SELECT COALESCE(MAX(id), 0) FROM rental_history), ')'),
+               'SELECT 1');
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @sql := IF((SELECT COUNT(*) FROM information_schema.tables
+                WHERE table_schema = DATABASE() AND table_name = 'payment_seq') = 1,
+               CONCAT('SELECT SETVAL(`payment_seq`, ', (SELECT COALESCE(MAX(id), 0) FROM payment), ')'),
+               'SELECT 1');
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @sql := IF((SELECT COUNT(*) FROM information_schema.tables
+                WHERE table_schema = DATABASE() AND table_name = 'penalty_seq') = 1,
+               CONCAT('SELECT SETVAL(`penalty_seq`, ', (SELECT COALESCE(MAX(id), 0) FROM penalty), ')'),
+               'SELECT 1');
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+/* 0-5. 한 번만 실행해야 하는 데이터 보정 기록 (이름이 있으면 이미 적용됨) */
+CREATE TABLE IF NOT EXISTS rentex_data_migration (
+    name       VARCHAR(100) NOT NULL PRIMARY KEY,
+    applied_at DATETIME     NOT NULL
+);
+
+/* 0-6. item.stock_quantity 의미 변경 (남은 재고 → 보유 수량)
+   - 예전에는 승인 시 재고를 차감하고 반납 시 복구했으므로, 배포 시점에 승인~반납요청 상태인 대여 수량만큼
+     재고가 줄어 있다 → 그 합을 한 번 되돌린다.
+   - 보정 후 rentex_data_migration 에 기록하므로 재실행해도 다시 더하지 않는다.
+   ⚠️ 보유 수량 방식 코드와 같은 배포에 포함되어야 함 (그 사이에 승인된 대여는 차감되지 않았으므로) */
+SET @stock_owned_applied := (SELECT COUNT(*) FROM rentex_data_migration WHERE name = 'item_stock_owned');
+
+SET @sql := IF(@stock_owned_applied = 0,
+               'UPDATE item i
+                JOIN (SELECT item_id, SUM(quantity) AS held
+                      FROM rental
+                      WHERE status IN (''APPROVED'', ''SHIPPED'', ''RECEIVED'', ''RETURN_REQUESTED'')
+                      GROUP BY item_id) r ON r.item_id = i.id
+                SET i.stock_quantity = i.stock_quantity + r.held,
+                    i.version = COALESCE(i.version, 0) + 1',
+               'SELECT 1');
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+INSERT IGNORE INTO rentex_data_migration (name, applied_at) VALUES ('item_stock_owned', NOW());
+
 /* --- 1) 카테고리/서브카: 인덱스 + 더미 데이터 ------------- */
 CREATE UNIQUE INDEX IF NOT EXISTS uq_category_name
     ON category (name);
@@ -71,6 +119,103 @@ CREATE UNIQUE INDEX IF NOT EXISTS uq_category_name
 CREATE UNIQUE INDEX IF NOT EXISTS uq_sub_category_catid_name
     ON sub_category (category_id, name);
 
+/* 대여 목록 커서(keyset) 페이지용 인덱스: (created_at, id) 내림차순 탐색 */
+CREATE INDEX IF NOT EXISTS idx_rental_created_id
+    ON rental (created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_rental_user_created_id
+    ON rental (user_id, created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_rental_status_created_id
+    ON rental (status, created_at, id);
+
+/* 연체 감지 배치용 인덱스: RECEIVED + 미연체 대여를 id 순으로 청크 탐색 */
+CREATE INDEX IF NOT EXISTS idx_rental_overdue_scan
+    ON rental (status, is_overdue, id);
+
+/* 보관 이동 대상 탐색용 인덱스: 종료 상태 + 종료일 */
+CREATE INDEX IF NOT EXISTS idx_rental_status_end_date
+    ON rental (status, end_date);
+
+/* 보관 이동된 대여를 계속 가리키도록 payment / penalty 의 rental FK 제거
+   (penalty 는 ON DELETE SET NULL 이라 남겨두면 보관 시 연결이 끊긴다) */
+SET @fk_payment_rental := (SELECT CONSTRAINT_NAME
+                           FROM information_schema.key_column_usage
+                           WHERE table_schema = DATABASE()
+                             AND table_name = 'payment'
+                             AND column_name = 'rental_id'
+                             AND referenced_table_name = 'rental'
+                           LIMIT 1);
+
+SET @sql := IF(@fk_payment_rental IS NOT NULL,
+               CONCAT('ALTER TABLE `payment` DROP FOREIGN KEY ', @fk_payment_rental),
+               'SELECT 1');
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @fk_penalty_rental := (SELECT CONSTRAINT_NAME
+                           FROM information_schema.key_column_usage
+                           WHERE table_schema = DATABASE()
+                             AND table_name = 'penalty'
+                             AND column_name = 'rental_id'
+                             AND referenced_table_name = 'rental'
+                           LIMIT 1);
+
+SET @sql := IF(@fk_penalty_rental IS NOT NULL,
+               CONCAT('ALTER TABLE `penalty` DROP FOREIGN KEY ', @fk_penalty_rental),
+               'SELECT 1');
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+/* 통계용 전체 대여 뷰 (운영 테이블 + 보관 테이블) */
+CREATE OR REPLACE VIEW rental_all AS
+SELECT id, user_id, item_id, status, quantity, start_date, end_date, rented_at, returned_at, is_overdue, created_at
+FROM rental
+UNION ALL
+SELECT id, user_id, item_id, status, quantity, start_date, end_date, rented_at, returned_at, is_overdue, created_at
+FROM rental_archive;
+
+/* 공개 카탈로그 필터(카테고리/서브카 + 가격대)용 인덱스 */
+CREATE INDEX IF NOT EXISTS idx_item_category_price
+    ON item (category_id, daily_price);
+
+CREATE INDEX IF NOT EXISTS idx_item_sub_category_price
+    ON item (sub_category_id, daily_price);
+
+/* 상세 이미지 순서 컬럼(image_order) 도입
+   - 컬럼 추가 시 기존 행은 모두 0 으로 채워지므로, 장비 안에서 순서가 겹치는 장비만 골라 0,1,2… 로 다시 매긴다.
+     (겹치는 장비가 없으면 아래 문장은 모두 0건 처리)
+   - 겹치는 행끼리는 기존 조회 순서(테이블 저장 순서 = 등록 순서)를 따르도록, 정렬 없는 스캔 순번
+     (ROW_NUMBER() OVER ())을 보조 키로 (image_order, 스캔 순번) 순서로 번호를 매긴다.
+     ⚠️ 저장 순서 외에 원래 순서를 알 수 있는 컬럼은 없으므로, 행을 지웠다 다시 넣은 적이 있는 장비는 그 순서를 따른다.
+   - 삭제 → 재삽입은 한 트랜잭션으로 묶어, 도중에 기동이 중단되어도 이미지 행이 사라지지 않게 한다.
+   - 이후 (item_id, image_order) 유니크 인덱스로 순서 조회/맨 뒤 추가를 인덱스만으로 처리 */
+START TRANSACTION;
+
+CREATE TEMPORARY TABLE tmp_dup_image_items AS
+SELECT DISTINCT item_id
+FROM (SELECT item_id FROM item_detail_images
+      GROUP BY item_id, image_order
+      HAVING COUNT(*) > 1) d;
+
+CREATE TEMPORARY TABLE tmp_item_detail_images AS
+SELECT item_id, image_url,
+       ROW_NUMBER() OVER (PARTITION BY item_id ORDER BY image_order, scan_seq) - 1 AS image_order
+FROM (SELECT d.item_id, d.image_url, d.image_order, ROW_NUMBER() OVER () AS scan_seq
+      FROM item_detail_images d
+      JOIN tmp_dup_image_items t ON t.item_id = d.item_id) s;
+
+DELETE d FROM item_detail_images d
+JOIN tmp_dup_image_items t ON t.item_id = d.item_id;
+
+INSERT INTO item_detail_images (item_id, image_url, image_order)
+SELECT item_id, image_url, image_order FROM tmp_item_detail_images;
+
+COMMIT;
+
+DROP TEMPORARY TABLE tmp_item_detail_images, tmp_dup_image_items;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_item_detail_images_order
+    ON item_detail_images (item_id, image_order);
+
 INSERT IGNORE INTO category (id, name) VALUES
   (1,'촬영/미디어'), (2,'캠핑/레저'), (3,'행사/전시/무대'), (4,'가전/생활/사무'), (5,'기타/기타장비');
 
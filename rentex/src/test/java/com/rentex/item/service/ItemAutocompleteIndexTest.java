@@ -0,0 +1,114 @@
+package com.rentex.item.service;
+
+import com.rentex.item.domain.Item;
+import com.rentex.item.dto.ItemCatalogDTO;
+import com.rentex.item.dto.ItemRentalCountDTO;
+import com.rentex.item.dto.ItemSuggestionDTO;
+import com.rentex.item.event.ItemChangedEvent;
+import com.rentex.item.repository.ItemRepository;
+import com.rentex.rental.repository.RentalArchiveRepository;
+import com.rentex.rental.repository.RentalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ItemAutocompleteIndexTest {
+
+    private final ItemRepository itemRepository = mock(ItemRepository.class);
+    private final RentalRepository rentalRepository = mock(RentalRepository.class);
+    private final RentalArchiveRepository rentalArchiveRepository = mock(RentalArchiveRepository.class);
+    private final ItemAutocompleteIndex index =
+            new ItemAutocompleteIndex(itemRepository, rentalRepository, rentalArchiveRepository);
+
+    private final List<ItemCatalogDTO> catalog = new ArrayList<>();
+
+    private static ItemCatalogDTO item(long id, String name, long subCategoryId, String subCategory) {
+        return new ItemCatalogDTO(id, name, null, 1, Item.ItemStatus.AVAILABLE, 10000, null,
+                1L, "캠핑/레저", subCategoryId, subCategory, 100L, "파트너");
+    }
+
+    private List<String> suggest(ItemAutocompleteIndex target, String prefix) {
+        return target.suggest(prefix, ItemAutocompleteIndex.MAX_K).stream()
+                .map(s -> s.type() + ":" + s.text())
+                .toList();
+    }
+
+    @BeforeEach
+    void setUp() {
+        catalog.addAll(List.of(
+                item(1, "캠핑 의자", 10, "캠핑의자/테이블"),
+                item(2, "캠핑 테이블", 10, "캠핑의자/테이블"),
+                item(3, "캠핑 랜턴", 20, "랜턴"),
+                item(4, "캐논 EOS R6", 30, "카메라")));
+        when(itemRepository.findAllCatalog()).thenAnswer(inv -> List.copyOf(catalog));
+        when(rentalRepository.countRentalsByItem()).thenReturn(List.of(
+                new ItemRentalCountDTO(1L, 5), new ItemRentalCountDTO(3L, 9)));
+        when(rentalArchiveRepository.countRentalsByItem()).thenReturn(List.of(
+                new ItemRentalCountDTO(1L, 5), new ItemRentalCountDTO(2L, 1)));
+        index.rebuild();
+    }
+
+    @Test
+    void decompose_splitsCompoundVowelsAndFinalsInTypingOrder() {
+        assertEquals("ㄱㅗㅏ", ItemAutocompleteIndex.HangulJamo.decompose("과"));
+        assertEquals("ㄷㅏㄹㄱ", ItemAutocompleteIndex.HangulJamo.decompose("닭"));
+        assertEquals("ㄱㅗㅏ", ItemAutocompleteIndex.HangulJamo.decompose("ㄱㅘ"));
+        assertEquals("eos", ItemAutocompleteIndex.HangulJamo.decompose("eos"));
+    }
+
+    @Test
+    void normalize_makesPartialSyllablesPrefixesOfTheFullWord() {
+        String full = ItemAutocompleteIndex.normalize("캠핑");
+        assertTrue(full.startsWith(ItemAutocompleteIndex.normalize("캠ㅍ")));
+        assertTrue(full.startsWith(ItemAutocompleteIndex.normalize("캠피")));
+        assertEquals(ItemAutocompleteIndex.normalize("캠핑 의자"), ItemAutocompleteIndex.normalize("  캠핑   의자 "));
+    }
+
+    @Test
+    void suggest_ranksByPopularityThenShorterText() {
+        // 서브카테고리 인기도 = 소속 장비 합 (캠핑의자/테이블 = 10 + 1)
+        assertEquals(List.of("SUB_CATEGORY:캠핑의자/테이블", "ITEM:캠핑 의자", "ITEM:캠핑 랜턴", "ITEM:캠핑 테이블"),
+                suggest(index, "캠ㅍ"));
+        assertEquals(List.of("ITEM:캐논 EOS R6"), suggest(index, "eos"));
+        assertEquals(1, index.suggest("캠핑", 1).size());
+        assertTrue(suggest(index, " ").isEmpty());
+    }
+
+    @Test
+    void onItemChanged_matchesFullRebuild() {
+        // 이름/서브카테고리 변경
+        ItemCatalogDTO renamed = item(2, "감성 테이블", 20, "랜턴");
+        catalog.set(1, renamed);
+        when(itemRepository.findCatalogById(2L)).thenReturn(Optional.of(renamed));
+        index.onItemChanged(new ItemChangedEvent(2L));
+
+        // 삭제 (서브카테고리의 마지막 장비)
+        catalog.remove(3);
+        when(itemRepository.findCatalogById(4L)).thenReturn(Optional.empty());
+        index.onItemChanged(new ItemChangedEvent(4L));
+
+        ItemAutocompleteIndex rebuilt = new ItemAutocompleteIndex(itemRepository, rentalRepository, rentalArchiveRepository);
+        rebuilt.rebuild();
+        for (String prefix : List.of("캠", "캠핑", "감성", "테이블", "랜", "eos", "캐논", "카메라")) {
+            assertEquals(suggest(rebuilt, prefix), suggest(index, prefix), prefix);
+        }
+        assertTrue(suggest(index, "eos").isEmpty());
+        assertTrue(suggest(index, "카메라").isEmpty());
+    }
+
+    @Test
+    void onItemChanged_keepsSnapshotWhenSuggestionsAreUnchanged() {
+        List<ItemSuggestionDTO> before = index.suggest("캠핑", ItemAutocompleteIndex.MAX_K);
+        when(itemRepository.findCatalogById(1L)).thenReturn(Optional.of(catalog.get(0)));
+
+        index.onItemChanged(new ItemChangedEvent(1L));
+
+        assertSame(before.get(0), index.suggest("캠핑", ItemAutocompleteIndex.MAX_K).get(0));
+    }
+}
@@ -0,0 +1,81 @@
+package com.rentex.item.service;
+
+import com.rentex.item.domain.Item;
+import com.rentex.item.dto.ItemCatalogDTO;
+import com.rentex.item.dto.ItemDetailTextDTO;
+import com.rentex.item.event.ItemChangedEvent;
+import com.rentex.item.repository.ItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ItemSearchIndexTest {
+
+    private final ItemRepository itemRepository = mock(ItemRepository.class);
+    private final ItemSearchIndex index = new ItemSearchIndex(itemRepository);
+
+    private static ItemCatalogDTO item(long id, String name, String description, String category, String subCategory) {
+        return new ItemCatalogDTO(id, name, description, 1, Item.ItemStatus.AVAILABLE, 10000, null,
+                1L, category, 10L, subCategory, 100L, "파트너");
+    }
+
+    private List<Long> search(String query) {
+        return index.search(query, null, null, PageRequest.of(0, 20)).getContent().stream()
+                .map(ItemCatalogDTO::id)
+                .toList();
+    }
+
+    @BeforeEach
+    void setUp() {
+        when(itemRepository.findAllCatalog()).thenReturn(List.of(
+                item(1, "캠핑 의자 2인용", "접이식", "캠핑/레저", "캠핑의자/테이블"),
+                item(2, "감성 랜턴", "캠핑장에서 쓰기 좋은 조명", "캠핑/레저", "랜턴"),
+                item(3, "캐논 EOS R6", "풀프레임 미러리스 카메라", "촬영/미디어", "카메라")
+        ));
+        when(itemRepository.findAllDetailText()).thenReturn(List.of(
+                new ItemDetailTextDTO(3L, "<p>캠핑 촬영에도 적합</p>")
+        ));
+        index.rebuild();
+    }
+
+    @Test
+    void search_matchesKoreanSubstringsRegardlessOfSpacing() {
+        assertEquals(List.of(1L), search("캠핑의자"));
+        assertEquals(List.of(3L), search("미러리스"));
+        assertEquals(List.of(3L), search("eos"));
+    }
+
+    @Test
+    void search_ranksNameMatchesAboveDescriptionMatches() {
+        // 1: 장비명/카테고리, 2: 설명/카테고리, 3: 상세 설명(태그 제거)만
+        assertEquals(List.of(1L, 2L, 3L), search("캠핑"));
+    }
+
+    @Test
+    void search_requiresEveryQueryGram() {
+        assertTrue(search("캠핑 드론").isEmpty());
+        assertTrue(search("   ").isEmpty());
+    }
+
+    @Test
+    void onItemChanged_reindexesOnlyTheChangedItem() {
+        when(itemRepository.findCatalogById(2L)).thenReturn(Optional.of(
+                item(2, "LED 드론 조명", "야간 촬영용", "촬영/미디어", "조명")));
+        when(itemRepository.findDetailTextById(2L)).thenReturn(Optional.empty());
+        index.onItemChanged(new ItemChangedEvent(2L));
+
+        assertEquals(List.of(2L), search("드론"));
+        assertFalse(search("랜턴").contains(2L));
+
+        when(itemRepository.findCatalogById(3L)).thenReturn(Optional.empty());
+        index.onItemChanged(new ItemChangedEvent(3L));
+
+        assertTrue(search("미러리스").isEmpty());
+    }
+}
@@ -0,0 +1,52 @@
+package com.rentex.rental.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private static final long START = 1_700_000_000L;
+
+    @Test
+    void advanceTo_firesEachTimerExactlyAtItsTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(START);
+        wheel.schedule("1s", START + 1);
+        wheel.schedule("90s", START + 90);
+        wheel.schedule("2h", START + 7_200);
+        wheel.schedule("40d", START + 40L * 86_400);
+
+        List<String> fired = new ArrayList<>();
+        for (long t = START + 1; t <= START + 40L * 86_400; t++) {
+            for (String key : wheel.advanceTo(t)) {
+                fired.add(key + "@" + (t - START));
+            }
+        }
+
+        assertEquals(List.of("1s@1", "90s@90", "2h@7200", "40d@3456000"), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void schedule_sameKeyReplacesAndCancelDrops() {
+        TimingWheel<String> wheel = new TimingWheel<>(START);
+        wheel.schedule("a", START + 100);
+        wheel.schedule("a", START + 5);
+        wheel.schedule("b", START + 10);
+        wheel.cancel("b");
+
+        assertEquals(List.of("a"), wheel.advanceTo(START + 200));
+        assertTrue(wheel.advanceTo(START + 10_000).isEmpty());
+    }
+
+    @Test
+    void schedule_pastDeadlineFiresOnNextTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(START);
+        wheel.schedule("late", START - 3_600);
+
+        assertEquals(List.of("late"), wheel.advanceTo(START + 1));
+    }
+}
@@ -0,0 +1,55 @@
+package com.rentex.rental.service;
+
+import com.rentex.rental.domain.RentalStatus;
+import com.rentex.rental.dto.RentalSlotDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RentalAvailabilityIndexTest {
+
+    private static final LocalDate D1 = LocalDate.of(2025, 9, 1);
+
+    private static RentalSlotDto slot(long id, int fromDay, int toDay, int qty, RentalStatus status) {
+        return new RentalSlotDto(id, 1L, D1.plusDays(fromDay), D1.plusDays(toDay), qty, status);
+    }
+
+    @Test
+    void peakQuantity_ignoresNonOverlappingPeriods() {
+        RentalAvailabilityIndex.ItemSlots slots = RentalAvailabilityIndex.ItemSlots.of(List.of(
+                slot(1, 0, 2, 3, RentalStatus.APPROVED),
+                slot(2, 30, 35, 5, RentalStatus.REQUESTED)
+        ));
+
+        assertEquals(3, slots.peakQuantity(D1, D1.plusDays(5), RentalAvailabilityIndex.OCCUPYING_STATUSES));
+        assertEquals(0, slots.peakQuantity(D1.plusDays(10), D1.plusDays(20), RentalAvailabilityIndex.OCCUPYING_STATUSES));
+    }
+
+    @Test
+    void peakQuantity_sumsOnlySameDayOverlaps() {
+        RentalAvailabilityIndex.ItemSlots slots = RentalAvailabilityIndex.ItemSlots.of(List.of(
+                slot(1, 0, 4, 2, RentalStatus.APPROVED),
+                slot(2, 3, 6, 1, RentalStatus.RECEIVED),
+                slot(3, 5, 9, 4, RentalStatus.REQUESTED)
+        ));
+
+        int[] daily = slots.dailyQuantities(D1, D1.plusDays(9), RentalAvailabilityIndex.OCCUPYING_STATUSES);
+        assertArrayEquals(new int[]{2, 2, 2, 3, 3, 5, 5, 4, 4, 4}, daily);
+        assertEquals(5, slots.peakQuantity(D1, D1.plusDays(9), RentalAvailabilityIndex.OCCUPYING_STATUSES));
+    }
+
+    @Test
+    void upsert_removesSlotWhenNoLongerOccupying() {
+        RentalAvailabilityIndex.ItemSlots slots = RentalAvailabilityIndex.ItemSlots.of(List.of(
+                slot(1, 0, 4, 2, RentalStatus.REQUESTED)
+        ));
+
+        RentalAvailabilityIndex.ItemSlots canceled = slots.upsert(slot(1, 0, 4, 2, RentalStatus.CANCELED));
+
+        assertTrue(canceled.overlapping(D1, D1.plusDays(4), RentalAvailabilityIndex.OCCUPYING_STATUSES).isEmpty());
+        assertEquals(1, slots.overlapping(D1, D1.plusDays(4), RentalAvailabilityIndex.OCCUPYING_STATUSES).size());
+    }
+}
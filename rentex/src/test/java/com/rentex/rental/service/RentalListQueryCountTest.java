@@ -0,0 +1,66 @@
+package com.rentex.rental.service;
+
+import net.ttddyy.dsproxy.QueryCountHolder;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 대여 목록 조회 시 페이지당 SQL 수 검증 (DataSource 프록시로 실제 JDBC 실행 수를 센다)
+ * - RentalResponseDto 가 쓰는 user / item / category / partner 가 목록 쿼리 한 번에 조인되어야 한다.
+ * - Page: 페이지 id 결정(JDBC) + COUNT(JDBC, 필요할 때만) + 운영·보관 테이블 행 조회 각 1회 이하 → 최대 4회.
+ * - 커서 목록: 운영·보관 테이블 각 1회 → 2회 (withTotal=false 라 COUNT 없음).
+ */
+@SpringBootTest
+class RentalListQueryCountTest {
+
+    @Autowired RentalService rentalService;
+
+    @TestConfiguration
+    static class CountingDataSourceConfig {
+        @Bean
+        static BeanPostProcessor countingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                        return ProxyDataSourceBuilder.create(dataSource).countQuery().build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        QueryCountHolder.clear();
+    }
+
+    @Test
+    void getAllRentals_pageUsesAtMostFourStatements() {
+        rentalService.getAllRentals(null, PageRequest.of(0, 20, Sort.by("id").descending()));
+
+        long statements = QueryCountHolder.getGrandTotal().getTotal();
+        assertTrue(statements <= 4, "statements=" + statements);
+    }
+
+    @Test
+    void getAllRentalsByCursor_usesOneStatementPerTable() {
+        rentalService.getAllRentalsByCursor(null, null, 20, false);
+
+        assertEquals(2, QueryCountHolder.getGrandTotal().getTotal());
+    }
+}
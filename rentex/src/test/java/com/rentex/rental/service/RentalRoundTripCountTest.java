@@ -0,0 +1,149 @@
+package com.rentex.rental.service;
+
+import com.rentex.item.domain.Item;
+import com.rentex.item.repository.ItemRepository;
+import com.rentex.payment.domain.Payment;
+import com.rentex.payment.domain.Payment.PaymentMethod;
+import com.rentex.payment.domain.PaymentType;
+import com.rentex.rental.domain.Rental;
+import com.rentex.rental.dto.RentalPayResponseDto;
+import com.rentex.rental.dto.RentalRequestAndPayDto;
+import com.rentex.user.domain.User;
+import com.rentex.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 대여 쓰기 경로의 DB 왕복(PreparedStatement) 수 검증
+ * - 테스트 안에서 만든 파트너/사용자/장비만 쓰고, 롤백되므로 데이터는 남지 않는다.
+ * - 시퀀스 ID 엔티티는 flush 시 같은 테이블 INSERT 가 한 배치(PreparedStatement 1개)로 묶여야 한다.
+ * - 이력은 RentalHistoryWriter 가 커밋 이후 모아서 저장하므로 상태 전이 트랜잭션에는 이력 INSERT 가 없다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class RentalRoundTripCountTest {
+
+    private static final int DAILY_PRICE = 10_000;
+
+    @Autowired RentalService rentalService;
+    @Autowired ItemRepository itemRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired EntityManager entityManager;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    Statistics stats;
+    User partner;
+    User user;
+    Item item;
+
+    @BeforeEach
+    void setUp() {
+        stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        partner = userRepository.save(User.builder()
+                .email("partner-" + suffix + "@test.com")
+                .password("1234")
+                .name("테스트 파트너")
+                .nickname("p-" + suffix)
+                .role("PARTNER")
+                .businessNo("BN-" + suffix)
+                .build());
+        user = userRepository.save(User.builder()
+                .email("user-" + suffix + "@test.com")
+                .password("1234")
+                .name("테스트 유저")
+                .nickname("u-" + suffix)
+                .build());
+        item = itemRepository.save(Item.builder()
+                .name("테스트 장비")
+                .stockQuantity(5)
+                .status(Item.ItemStatus.AVAILABLE)
+                .dailyPrice(DAILY_PRICE)
+                .partner(partner)
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void requestAndPay_insertsRentalAndPaymentOnly() {
+        stats.clear();
+        requestAndPay();
+        entityManager.flush();
+
+        // rental + payment (이력 INSERT 없음)
+        assertEquals(2, stats.getEntityInsertCount());
+    }
+
+    @Test
+    void approveRental_insertsNothing() {
+        RentalPayResponseDto paid = requestAndPay();
+        entityManager.flush();
+        entityManager.clear();
+
+        stats.clear();
+        rentalService.approveRental(paid.rentalId(), entityManager.find(User.class, partner.getId()));
+        entityManager.flush();
+
+        assertEquals(0, stats.getEntityInsertCount());
+        assertEquals(1, stats.getEntityStatistics(Rental.class.getName()).getUpdateCount()); // 상태 변경 1회
+    }
+
+    @Test
+    void sequenceIdInserts_areBatchedPerTable() {
+        RentalPayResponseDto paid = requestAndPay();
+        entityManager.flush();
+        Rental rental = entityManager.find(Rental.class, paid.rentalId());
+
+        // 시퀀스 풀을 미리 받아 둔다
+        entityManager.persist(payment(rental));
+        entityManager.flush();
+
+        stats.clear();
+        int count = 10;
+        for (int i = 0; i < count; i++) {
+            entityManager.persist(payment(rental));
+        }
+        entityManager.flush();
+
+        assertEquals(count, stats.getEntityInsertCount());
+        // INSERT 배치 1 + (풀이 마침 소진됐다면) NEXTVAL 1 — IDENTITY 였다면 INSERT 마다 1씩 count 개
+        assertTrue(stats.getPrepareStatementCount() <= 2,
+                "statements=" + stats.getPrepareStatementCount());
+    }
+
+    private RentalPayResponseDto requestAndPay() {
+        LocalDate start = LocalDate.now().plusYears(1);
+        LocalDate end = start.plusDays(2);
+        return rentalService.requestAndPay(
+                new RentalRequestAndPayDto(item.getId(), start, end, 1, PaymentMethod.CARD, DAILY_PRICE * 3),
+                entityManager.find(User.class, user.getId()));
+    }
+
+    private Payment payment(Rental rental) {
+        return Payment.builder()
+                .user(rental.getUser())
+                .rental(rental)
+                .amount(DAILY_PRICE)
+                .method(PaymentMethod.MANUAL)
+                .status(Payment.PaymentStatus.SUCCESS)
+                .type(PaymentType.RENTAL)
+                .paidAt(LocalDateTime.now())
+                .build();
+    }
+}